@@ -0,0 +1,12 @@
+package lion.studypartner.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 컨트롤러 파라미터에 현재 로그인 사용자(UserPrincipal)를 주입 (미인증이면 null)
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUser {
+} 
\ No newline at end of file
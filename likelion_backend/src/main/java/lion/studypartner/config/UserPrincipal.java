@@ -0,0 +1,26 @@
+package lion.studypartner.config;
+
+import lombok.Getter;
+
+import java.security.Principal;
+
+// JWT 클레임으로 만든 인증 사용자 (요청마다 UserDetails를 다시 만들지 않고, 상태 확인은 2차 캐시의 User로 함)
+// getName()은 기존과 같이 이메일을 반환한다.
+@Getter
+public class UserPrincipal implements Principal {
+    
+    private final Long id;
+    private final String email;
+    private final String role;
+    
+    public UserPrincipal(Long id, String email, String role) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+    }
+    
+    @Override
+    public String getName() {
+        return email;
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,67 @@
+package lion.studypartner.controller;
+
+import lion.studypartner.dto.UserDto;
+import lion.studypartner.search.StudySearchCache;
+import lion.studypartner.service.IdempotencyService;
+import lion.studypartner.service.JwtService;
+import lion.studypartner.service.NotificationOutbox;
+import lion.studypartner.service.RetentionService;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/metrics")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class MetricsController {
+    
+    private final StudySearchCache studySearchCache;
+    private final JwtService jwtService;
+    private final IdempotencyService idempotencyService;
+    private final NotificationOutbox notificationOutbox;
+    private final RetentionService retentionService;
+    private final EntityManagerFactory entityManagerFactory;
+    
+    // 운영 지표 조회 (검색 캐시/검증 토큰 캐시/엔티티 2차 캐시 적중률, 멱등 요청 재사용, 알림 아웃박스 적체, 보관 기간 정리 결과 등)
+    @GetMapping
+    public ResponseEntity<UserDto.ApiResponse<Map<String, Object>>> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("searchCache", studySearchCache.stats());
+        metrics.put("verifiedTokenCache", jwtService.verifiedCacheStats());
+        metrics.put("entityCache", entityCacheStats());
+        metrics.put("idempotency", idempotencyService.stats());
+        metrics.put("notificationOutbox", notificationOutbox.stats());
+        metrics.put("retention", retentionService.stats());
+        return ResponseEntity.ok(UserDto.ApiResponse.success(metrics));
+    }
+    
+    // Hibernate 2차 캐시 영역별 통계
+    private Map<String, Object> entityCacheStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(regionName);
+            if (region == null) {
+                continue;
+            }
+            long hits = region.getHitCount();
+            long misses = region.getMissCount();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("size", region.getElementCountInMemory());
+            stats.put("hits", hits);
+            stats.put("misses", misses);
+            stats.put("puts", region.getPutCount());
+            stats.put("hitRate", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+            regions.put(regionName.substring(regionName.lastIndexOf('.') + 1), stats);
+        }
+        return regions;
+    }
+} 
\ No newline at end of file
@@ -1,5 +1,7 @@
 package lion.studypartner.controller;
 
+import lion.studypartner.config.CurrentUser;
+import lion.studypartner.config.UserPrincipal;
 import lion.studypartner.dto.NotificationDto;
 import lion.studypartner.dto.UserDto;
 import lion.studypartner.service.NotificationService;
@@ -8,7 +10,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -24,10 +25,10 @@ public class NotificationController {
     // 사용자의 알림 목록 조회
     @GetMapping
     public ResponseEntity<UserDto.ApiResponse<Page<NotificationDto>>> getNotifications(
-            Authentication authentication,
+            @CurrentUser UserPrincipal currentUser,
             @PageableDefault(size = 20) Pageable pageable) {
         try {
-            Long userId = Long.parseLong(authentication.getName());
+            Long userId = currentUser.getId();
             Page<NotificationDto> notifications = notificationService.getUserNotifications(userId, pageable);
             return ResponseEntity.ok(UserDto.ApiResponse.success(notifications));
         } catch (Exception e) {
@@ -38,9 +39,9 @@ public class NotificationController {
     // 읽지 않은 알림 조회
     @GetMapping("/unread")
     public ResponseEntity<UserDto.ApiResponse<List<NotificationDto>>> getUnreadNotifications(
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser) {
         try {
-            Long userId = Long.parseLong(authentication.getName());
+            Long userId = currentUser.getId();
             List<NotificationDto> notifications = notificationService.getUnreadNotifications(userId);
             return ResponseEntity.ok(UserDto.ApiResponse.success(notifications));
         } catch (Exception e) {
@@ -51,9 +52,9 @@ public class NotificationController {
     // 읽지 않은 알림 개수 조회
     @GetMapping("/unread/count")
     public ResponseEntity<UserDto.ApiResponse<Long>> getUnreadNotificationCount(
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser) {
         try {
-            Long userId = Long.parseLong(authentication.getName());
+            Long userId = currentUser.getId();
             long count = notificationService.getUnreadNotificationCount(userId);
             return ResponseEntity.ok(UserDto.ApiResponse.success(count));
         } catch (Exception e) {
@@ -65,9 +66,9 @@ public class NotificationController {
     @PutMapping("/{notificationId}/read")
     public ResponseEntity<UserDto.ApiResponse<String>> markAsRead(
             @PathVariable Long notificationId,
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser) {
         try {
-            Long userId = Long.parseLong(authentication.getName());
+            Long userId = currentUser.getId();
             notificationService.markAsRead(notificationId, userId);
             return ResponseEntity.ok(UserDto.ApiResponse.success("알림을 읽음 처리했습니다.", "success"));
         } catch (Exception e) {
@@ -78,9 +79,9 @@ public class NotificationController {
     // 모든 알림을 읽음 상태로 변경
     @PutMapping("/read-all")
     public ResponseEntity<UserDto.ApiResponse<String>> markAllAsRead(
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser) {
         try {
-            Long userId = Long.parseLong(authentication.getName());
+            Long userId = currentUser.getId();
             notificationService.markAllAsRead(userId);
             return ResponseEntity.ok(UserDto.ApiResponse.success("모든 알림을 읽음 처리했습니다.", "success"));
         } catch (Exception e) {
@@ -92,9 +93,9 @@ public class NotificationController {
     @DeleteMapping("/{notificationId}")
     public ResponseEntity<UserDto.ApiResponse<String>> deleteNotification(
             @PathVariable Long notificationId,
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser) {
         try {
-            Long userId = Long.parseLong(authentication.getName());
+            Long userId = currentUser.getId();
             notificationService.deleteNotification(notificationId, userId);
             return ResponseEntity.ok(UserDto.ApiResponse.success("알림이 삭제되었습니다.", "success"));
         } catch (Exception e) {
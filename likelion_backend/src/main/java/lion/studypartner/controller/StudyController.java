@@ -1,15 +1,21 @@
 package lion.studypartner.controller;
 
+import lion.studypartner.config.CurrentUser;
+import lion.studypartner.config.UserPrincipal;
 import lion.studypartner.dto.*;
+import lion.studypartner.service.IdempotencyService;
 import lion.studypartner.service.StudyService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
-import lion.studypartner.service.UserService;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/studies")
@@ -18,35 +24,34 @@ import lion.studypartner.service.UserService;
 public class StudyController {
     
     private final StudyService studyService;
-    private final UserService userService;
+    private final IdempotencyService idempotencyService;
     
     // 스터디 생성
     @PostMapping
     public ResponseEntity<UserDto.ApiResponse<StudyDto.StudyResponse>> createStudy(
             @RequestBody StudyCreateRequest request,
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser,
+            @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        // 인증 토큰 검증
+        if (currentUser == null) {
+            return ResponseEntity.status(401).body(UserDto.ApiResponse.error("인증이 필요합니다."));
+        }
+        
+        // JWT 클레임의 사용자 ID 사용 (같은 키와 같은 본문으로 재시도하면 처음 응답을 그대로 반환)
+        Long userId = currentUser.getId();
         try {
-            // 인증 토큰 검증
-            if (authentication == null || authentication.getName() == null) {
-                return ResponseEntity.status(401).body(UserDto.ApiResponse.error("인증이 필요합니다."));
-            }
-            
-            // JWT 토큰에서 이메일을 추출한 후 사용자 ID를 찾음
-            String email = authentication.getName();
-            
-            // UserService를 통해 이메일로 사용자 정보 조회
-            UserDto.ApiResponse<UserDto.UserInfo> userResponse = userService.getUserInfo(email);
-            if (!userResponse.isSuccess()) {
-                return ResponseEntity.status(401).body(UserDto.ApiResponse.error("사용자 정보를 찾을 수 없습니다. 다시 로그인해 주세요."));
-            }
-            
-            Long userId = userResponse.getData().getId();
-            StudyDto.StudyResponse response = studyService.createStudy(request, userId);
-            return ResponseEntity.ok(UserDto.ApiResponse.success("스터디가 생성되었습니다.", response));
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().body(UserDto.ApiResponse.error("잘못된 요청입니다: " + e.getMessage()));
-        } catch (Exception e) {
-            return ResponseEntity.status(500).body(UserDto.ApiResponse.error("스터디 생성 중 오류가 발생했습니다."));
+            return idempotencyService.execute(userId, "create", idempotencyKey, request, () -> {
+                try {
+                    StudyDto.StudyResponse response = studyService.createStudy(request, userId);
+                    return ResponseEntity.ok(UserDto.ApiResponse.success("스터디가 생성되었습니다.", response));
+                } catch (IllegalArgumentException e) {
+                    return ResponseEntity.badRequest().body(UserDto.ApiResponse.error("잘못된 요청입니다: " + e.getMessage()));
+                } catch (Exception e) {
+                    return ResponseEntity.status(500).body(UserDto.ApiResponse.error("스터디 생성 중 오류가 발생했습니다."));
+                }
+            });
+        } catch (IdempotencyService.KeyReusedException e) {
+            return ResponseEntity.unprocessableEntity().body(UserDto.ApiResponse.error(e.getMessage()));
         }
     }
     
@@ -55,18 +60,15 @@ public class StudyController {
     public ResponseEntity<UserDto.ApiResponse<StudyDto.StudyResponse>> updateStudy(
             @PathVariable Long studyId,
             @RequestBody StudyUpdateRequest request,
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser) {
         try {
-            // JWT 토큰에서 이메일을 추출한 후 사용자 ID를 찾음
-            String email = authentication.getName();
-            
-            // UserService를 통해 이메일로 사용자 정보 조회
-            UserDto.ApiResponse<UserDto.UserInfo> userResponse = userService.getUserInfo(email);
-            if (!userResponse.isSuccess()) {
-                return ResponseEntity.badRequest().body(UserDto.ApiResponse.error("사용자 정보를 찾을 수 없습니다."));
+            // 인증 토큰 검증
+            if (currentUser == null) {
+                return ResponseEntity.status(401).body(UserDto.ApiResponse.error("인증이 필요합니다."));
             }
             
-            Long userId = userResponse.getData().getId();
+            // JWT 클레임의 사용자 ID 사용
+            Long userId = currentUser.getId();
             StudyDto.StudyResponse response = studyService.updateStudy(studyId, request, userId);
             return ResponseEntity.ok(UserDto.ApiResponse.success("스터디가 수정되었습니다.", response));
         } catch (Exception e) {
@@ -74,29 +76,41 @@ public class StudyController {
         }
     }
     
+    // 여러 스터디 일괄 조회 (북마크/알림 대상 등, ids=1,2,3)
+    @GetMapping("/batch")
+    public ResponseEntity<UserDto.ApiResponse<StudyDto.BatchResponse>> getStudiesByIds(
+            @RequestParam List<Long> ids) {
+        try {
+            StudyDto.BatchResponse response = studyService.getStudiesByIds(ids);
+            return ResponseEntity.ok(UserDto.ApiResponse.success(response));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(UserDto.ApiResponse.error(e.getMessage()));
+        }
+    }
+    
     // 스터디 상세 조회
     @GetMapping("/{studyId}")
     public ResponseEntity<UserDto.ApiResponse<StudyDetailResponse>> getStudy(
             @PathVariable Long studyId,
-            Authentication authentication) {
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @CurrentUser UserPrincipal currentUser) {
         try {
             // 인증 토큰 검증
-            if (authentication == null || authentication.getName() == null) {
+            if (currentUser == null) {
                 return ResponseEntity.status(401).body(UserDto.ApiResponse.error("인증이 필요합니다."));
             }
             
-            // JWT 토큰에서 이메일을 추출한 후 사용자 ID를 찾음
-            String email = authentication.getName();
+            // JWT 클레임의 사용자 ID 사용
+            Long userId = currentUser.getId();
             
-            // UserService를 통해 이메일로 사용자 정보 조회
-            UserDto.ApiResponse<UserDto.UserInfo> userResponse = userService.getUserInfo(email);
-            if (!userResponse.isSuccess()) {
-                return ResponseEntity.status(401).body(UserDto.ApiResponse.error("사용자 정보를 찾을 수 없습니다. 다시 로그인해 주세요."));
+            // 변경이 없으면 상세 응답을 만들지 않고 304 반환
+            String eTag = studyService.getStudyDetailETag(studyId, userId);
+            if (isNotModified(ifNoneMatch, eTag)) {
+                return notModified(eTag);
             }
             
-            Long userId = userResponse.getData().getId();
             StudyDetailResponse response = studyService.getStudyDetail(studyId, userId);
-            return ResponseEntity.ok(UserDto.ApiResponse.success(response));
+            return withETag(eTag, UserDto.ApiResponse.success(response));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(404).body(UserDto.ApiResponse.error("존재하지 않는 스터디입니다."));
         } catch (RuntimeException e) {
@@ -113,67 +127,158 @@ public class StudyController {
     // 스터디 목록 조회
     @GetMapping
     public ResponseEntity<UserDto.ApiResponse<Page<StudyDto.StudyListResponse>>> getStudyList(
-            @PageableDefault(size = 10) Pageable pageable) {
+            @PageableDefault(size = 10) Pageable pageable,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
+            String eTag = studyService.getStudyListETag();
+            if (isNotModified(ifNoneMatch, eTag)) {
+                return notModified(eTag);
+            }
+            
             Page<StudyDto.StudyListResponse> response = studyService.getStudyList(pageable);
-            return ResponseEntity.ok(UserDto.ApiResponse.success(response));
+            return withETag(eTag, UserDto.ApiResponse.success(response));
         } catch (Exception e) {
             return ResponseEntity.status(500).body(UserDto.ApiResponse.error("스터디 목록을 불러오는 중 오류가 발생했습니다."));
         }
     }
     
+    // 스터디 목록 조회 (커서 모드, cursor 파라미터가 있으면 키셋 페이지네이션)
+    @GetMapping(params = "cursor")
+    public ResponseEntity<UserDto.ApiResponse<StudyDto.CursorPageResponse<StudyDto.StudyListResponse>>> getStudyListByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "latest") String orderBy) {
+        return searchByCursor(new StudyDto.SearchRequest(), cursor, size, orderBy);
+    }
+    
     // 스터디 검색
     @GetMapping("/search")
     public ResponseEntity<UserDto.ApiResponse<Page<StudyDto.StudyListResponse>>> searchStudies(
             @ModelAttribute StudyDto.SearchRequest request,
-            @PageableDefault(size = 10) Pageable pageable) {
+            @PageableDefault(size = 10) Pageable pageable,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
+            String eTag = studyService.getStudyListETag();
+            if (isNotModified(ifNoneMatch, eTag)) {
+                return notModified(eTag);
+            }
+            
             Page<StudyDto.StudyListResponse> response = studyService.searchStudies(request, pageable);
+            return withETag(eTag, UserDto.ApiResponse.success(response));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(UserDto.ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    // 패싯 검색 (필터링 결과 + 카테고리/위치/유형/상태별 개수)
+    @GetMapping("/facets")
+    public ResponseEntity<UserDto.ApiResponse<StudyDto.FacetSearchResponse>> searchStudiesWithFacets(
+            @ModelAttribute StudyDto.SearchRequest request,
+            @PageableDefault(size = 10) Pageable pageable) {
+        try {
+            StudyDto.FacetSearchResponse response = studyService.searchStudiesWithFacets(request, pageable);
             return ResponseEntity.ok(UserDto.ApiResponse.success(response));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(UserDto.ApiResponse.error(e.getMessage()));
         }
     }
     
-    // 스터디 참여
-    @PostMapping("/{studyId}/join")
-    public ResponseEntity<UserDto.ApiResponse<StudyDto.StudyResponse>> joinStudy(
-            @PathVariable Long studyId,
-            Authentication authentication) {
+    // 검색창 자동완성 (제목/카테고리 접두사, 참여자 수 순)
+    @GetMapping("/autocomplete")
+    public ResponseEntity<UserDto.ApiResponse<StudyDto.AutocompleteResponse>> autocomplete(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size) {
         try {
-            // JWT 토큰에서 이메일을 추출한 후 사용자 ID를 찾음
-            String email = authentication.getName();
-            
-            // UserService를 통해 이메일로 사용자 정보 조회
-            UserDto.ApiResponse<UserDto.UserInfo> userResponse = userService.getUserInfo(email);
-            if (!userResponse.isSuccess()) {
-                return ResponseEntity.badRequest().body(UserDto.ApiResponse.error("사용자 정보를 찾을 수 없습니다."));
+            StudyDto.AutocompleteResponse response = studyService.autocomplete(prefix, size);
+            return ResponseEntity.ok(UserDto.ApiResponse.success(response));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(UserDto.ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    // 인기 스터디 (참여자 수 순, 카테고리 지정 가능)
+    @GetMapping("/popular")
+    public ResponseEntity<UserDto.ApiResponse<List<StudyDto.StudyListResponse>>> getPopularStudies(
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            List<StudyDto.StudyListResponse> response = studyService.getPopularStudies(category, size);
+            return ResponseEntity.ok(UserDto.ApiResponse.success(response));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(UserDto.ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    // 사용자 맞춤 추천 스터디
+    @GetMapping("/recommendations")
+    public ResponseEntity<UserDto.ApiResponse<List<StudyDto.StudyListResponse>>> getRecommendedStudies(
+            @RequestParam(defaultValue = "10") int size,
+            @CurrentUser UserPrincipal currentUser) {
+        try {
+            // 인증 토큰 검증
+            if (currentUser == null) {
+                return ResponseEntity.status(401).body(UserDto.ApiResponse.error("인증이 필요합니다."));
             }
             
-            Long userId = userResponse.getData().getId();
-            StudyDto.StudyResponse response = studyService.joinStudy(studyId, userId);
-            return ResponseEntity.ok(UserDto.ApiResponse.success("스터디에 참여했습니다.", response));
+            // JWT 클레임의 사용자 ID 사용
+            Long userId = currentUser.getId();
+            List<StudyDto.StudyListResponse> response = studyService.getRecommendedStudies(userId, size);
+            return ResponseEntity.ok(UserDto.ApiResponse.success(response));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(UserDto.ApiResponse.error(e.getMessage()));
         }
     }
     
+    // 스터디 검색 (커서 모드)
+    @GetMapping(value = "/search", params = "cursor")
+    public ResponseEntity<UserDto.ApiResponse<StudyDto.CursorPageResponse<StudyDto.StudyListResponse>>> searchStudiesByCursor(
+            @ModelAttribute StudyDto.SearchRequest request,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "latest") String orderBy) {
+        return searchByCursor(request, cursor, size, orderBy);
+    }
+    
+    // 스터디 참여
+    @PostMapping("/{studyId}/join")
+    public ResponseEntity<UserDto.ApiResponse<StudyDto.JoinResponse>> joinStudy(
+            @PathVariable Long studyId,
+            @CurrentUser UserPrincipal currentUser,
+            @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        // 인증 토큰 검증
+        if (currentUser == null) {
+            return ResponseEntity.status(401).body(UserDto.ApiResponse.error("인증이 필요합니다."));
+        }
+        
+        // JWT 클레임의 사용자 ID 사용 (같은 키로 재시도하면 검증/조회 없이 처음 응답을 그대로 반환)
+        Long userId = currentUser.getId();
+        return idempotencyService.execute(userId, "join:" + studyId, idempotencyKey, null, () -> {
+            try {
+                StudyDto.JoinResponse response = studyService.joinStudy(studyId, userId);
+                if (response.isWaitlisted()) {
+                    // 정원이 가득 차 대기열에 등록됨 (승격되면 알림으로 안내)
+                    return ResponseEntity.status(HttpStatus.ACCEPTED).body(UserDto.ApiResponse.success("정원이 가득 차 대기열에 등록했습니다.", response));
+                }
+                return ResponseEntity.ok(UserDto.ApiResponse.success("스터디에 참여했습니다.", response));
+            } catch (Exception e) {
+                return ResponseEntity.badRequest().body(UserDto.ApiResponse.error(e.getMessage()));
+            }
+        });
+    }
+    
     // 스터디 탈퇴
     @PostMapping("/{studyId}/leave")
     public ResponseEntity<UserDto.ApiResponse<String>> leaveStudy(
             @PathVariable Long studyId,
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser) {
         try {
-            // JWT 토큰에서 이메일을 추출한 후 사용자 ID를 찾음
-            String email = authentication.getName();
-            
-            // UserService를 통해 이메일로 사용자 정보 조회
-            UserDto.ApiResponse<UserDto.UserInfo> userResponse = userService.getUserInfo(email);
-            if (!userResponse.isSuccess()) {
-                return ResponseEntity.badRequest().body(UserDto.ApiResponse.error("사용자 정보를 찾을 수 없습니다."));
+            // 인증 토큰 검증
+            if (currentUser == null) {
+                return ResponseEntity.status(401).body(UserDto.ApiResponse.error("인증이 필요합니다."));
             }
             
-            Long userId = userResponse.getData().getId();
+            // JWT 클레임의 사용자 ID 사용
+            Long userId = currentUser.getId();
             studyService.leaveStudy(studyId, userId);
             return ResponseEntity.ok(UserDto.ApiResponse.success("스터디에서 탈퇴했습니다.", "success"));
         } catch (Exception e) {
@@ -181,22 +286,55 @@ public class StudyController {
         }
     }
     
+    // 대기 순번 조회
+    @GetMapping("/{studyId}/waitlist")
+    public ResponseEntity<UserDto.ApiResponse<StudyDto.WaitlistResponse>> getWaitlistPosition(
+            @PathVariable Long studyId,
+            @CurrentUser UserPrincipal currentUser) {
+        try {
+            // 인증 토큰 검증
+            if (currentUser == null) {
+                return ResponseEntity.status(401).body(UserDto.ApiResponse.error("인증이 필요합니다."));
+            }
+            
+            StudyDto.WaitlistResponse response = studyService.getWaitlistPosition(studyId, currentUser.getId());
+            return ResponseEntity.ok(UserDto.ApiResponse.success(response));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(UserDto.ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    // 대기 취소
+    @DeleteMapping("/{studyId}/waitlist")
+    public ResponseEntity<UserDto.ApiResponse<String>> cancelWaitlist(
+            @PathVariable Long studyId,
+            @CurrentUser UserPrincipal currentUser) {
+        try {
+            // 인증 토큰 검증
+            if (currentUser == null) {
+                return ResponseEntity.status(401).body(UserDto.ApiResponse.error("인증이 필요합니다."));
+            }
+            
+            studyService.cancelWaitlist(studyId, currentUser.getId());
+            return ResponseEntity.ok(UserDto.ApiResponse.success("대기를 취소했습니다.", "success"));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(UserDto.ApiResponse.error(e.getMessage()));
+        }
+    }
+    
     // 내가 참여 중인 스터디 목록
     @GetMapping("/my-studies")
     public ResponseEntity<UserDto.ApiResponse<Page<StudyDto.StudyListResponse>>> getMyStudies(
-            Authentication authentication,
+            @CurrentUser UserPrincipal currentUser,
             @PageableDefault(size = 10) Pageable pageable) {
         try {
-            // JWT 토큰에서 이메일을 추출한 후 사용자 ID를 찾음
-            String email = authentication.getName();
-            
-            // UserService를 통해 이메일로 사용자 정보 조회
-            UserDto.ApiResponse<UserDto.UserInfo> userResponse = userService.getUserInfo(email);
-            if (!userResponse.isSuccess()) {
-                return ResponseEntity.badRequest().body(UserDto.ApiResponse.error("사용자 정보를 찾을 수 없습니다."));
+            // 인증 토큰 검증
+            if (currentUser == null) {
+                return ResponseEntity.status(401).body(UserDto.ApiResponse.error("인증이 필요합니다."));
             }
             
-            Long userId = userResponse.getData().getId();
+            // JWT 클레임의 사용자 ID 사용
+            Long userId = currentUser.getId();
             Page<StudyDto.StudyListResponse> response = studyService.getMyStudies(userId, pageable);
             return ResponseEntity.ok(UserDto.ApiResponse.success(response));
         } catch (Exception e) {
@@ -208,18 +346,15 @@ public class StudyController {
     @DeleteMapping("/{studyId}")
     public ResponseEntity<UserDto.ApiResponse<String>> deleteStudy(
             @PathVariable Long studyId,
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser) {
         try {
-            // JWT 토큰에서 이메일을 추출한 후 사용자 ID를 찾음
-            String email = authentication.getName();
-            
-            // UserService를 통해 이메일로 사용자 정보 조회
-            UserDto.ApiResponse<UserDto.UserInfo> userResponse = userService.getUserInfo(email);
-            if (!userResponse.isSuccess()) {
-                return ResponseEntity.badRequest().body(UserDto.ApiResponse.error("사용자 정보를 찾을 수 없습니다."));
+            // 인증 토큰 검증
+            if (currentUser == null) {
+                return ResponseEntity.status(401).body(UserDto.ApiResponse.error("인증이 필요합니다."));
             }
             
-            Long userId = userResponse.getData().getId();
+            // JWT 클레임의 사용자 ID 사용
+            Long userId = currentUser.getId();
             studyService.deleteStudy(studyId, userId);
             return ResponseEntity.ok(UserDto.ApiResponse.success("스터디가 삭제되었습니다.", "success"));
         } catch (Exception e) {
@@ -231,11 +366,17 @@ public class StudyController {
     @GetMapping("/category/{category}")
     public ResponseEntity<UserDto.ApiResponse<Page<StudyDto.StudyListResponse>>> getStudiesByCategory(
             @PathVariable String category,
-            @PageableDefault(size = 10) Pageable pageable) {
+            @PageableDefault(size = 10) Pageable pageable,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
+            String eTag = studyService.getStudyListETag();
+            if (isNotModified(ifNoneMatch, eTag)) {
+                return notModified(eTag);
+            }
+            
             Page<StudyDto.StudyListResponse> response = studyService.searchStudies(
                     StudyDto.SearchRequest.builder().category(category).build(), pageable);
-            return ResponseEntity.ok(UserDto.ApiResponse.success(response));
+            return withETag(eTag, UserDto.ApiResponse.success(response));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(UserDto.ApiResponse.error(e.getMessage()));
         }
@@ -245,37 +386,101 @@ public class StudyController {
     @GetMapping("/location/{location}")
     public ResponseEntity<UserDto.ApiResponse<Page<StudyDto.StudyListResponse>>> getStudiesByLocation(
             @PathVariable String location,
-            @PageableDefault(size = 10) Pageable pageable) {
+            @PageableDefault(size = 10) Pageable pageable,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
+            String eTag = studyService.getStudyListETag();
+            if (isNotModified(ifNoneMatch, eTag)) {
+                return notModified(eTag);
+            }
+            
             Page<StudyDto.StudyListResponse> response = studyService.searchStudies(
                     StudyDto.SearchRequest.builder().location(location).build(), pageable);
-            return ResponseEntity.ok(UserDto.ApiResponse.success(response));
+            return withETag(eTag, UserDto.ApiResponse.success(response));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(UserDto.ApiResponse.error(e.getMessage()));
         }
     }
     
+    // 카테고리별 스터디 조회 (커서 모드)
+    @GetMapping(value = "/category/{category}", params = "cursor")
+    public ResponseEntity<UserDto.ApiResponse<StudyDto.CursorPageResponse<StudyDto.StudyListResponse>>> getStudiesByCategoryByCursor(
+            @PathVariable String category,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "latest") String orderBy) {
+        return searchByCursor(StudyDto.SearchRequest.builder().category(category).build(), cursor, size, orderBy);
+    }
+    
+    // 위치별 스터디 조회 (커서 모드)
+    @GetMapping(value = "/location/{location}", params = "cursor")
+    public ResponseEntity<UserDto.ApiResponse<StudyDto.CursorPageResponse<StudyDto.StudyListResponse>>> getStudiesByLocationByCursor(
+            @PathVariable String location,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "latest") String orderBy) {
+        return searchByCursor(StudyDto.SearchRequest.builder().location(location).build(), cursor, size, orderBy);
+    }
+    
+    private ResponseEntity<UserDto.ApiResponse<StudyDto.CursorPageResponse<StudyDto.StudyListResponse>>> searchByCursor(
+            StudyDto.SearchRequest request, String cursor, int size, String orderBy) {
+        try {
+            StudyDto.CursorPageResponse<StudyDto.StudyListResponse> response =
+                    studyService.searchStudiesByCursor(request, cursor, size, orderBy);
+            return ResponseEntity.ok(UserDto.ApiResponse.success(response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(UserDto.ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(UserDto.ApiResponse.error("스터디 목록을 불러오는 중 오류가 발생했습니다."));
+        }
+    }
+    
+    // If-None-Match의 태그 중 하나라도 현재 ETag와 같으면 변경 없음 (약한 비교)
+    private boolean isNotModified(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null) {
+            return false;
+        }
+        String current = eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    // 클라이언트가 매번 재검증하도록 no-cache (사용자별 응답이므로 private)
+    private <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .build();
+    }
+    
+    private <T> ResponseEntity<T> withETag(String eTag, T body) {
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(body);
+    }
+    
     // 스터디 참여 상태 확인
     @GetMapping("/{studyId}/join-status")
     public ResponseEntity<UserDto.ApiResponse<Boolean>> getJoinStatus(
             @PathVariable Long studyId,
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser) {
         try {
             // 인증 토큰 검증
-            if (authentication == null || authentication.getName() == null) {
+            if (currentUser == null) {
                 return ResponseEntity.status(401).body(UserDto.ApiResponse.error("인증이 필요합니다."));
             }
             
-            // JWT 토큰에서 이메일을 추출한 후 사용자 ID를 찾음
-            String email = authentication.getName();
-            
-            // UserService를 통해 이메일로 사용자 정보 조회
-            UserDto.ApiResponse<UserDto.UserInfo> userResponse = userService.getUserInfo(email);
-            if (!userResponse.isSuccess()) {
-                return ResponseEntity.status(401).body(UserDto.ApiResponse.error("사용자 정보를 찾을 수 없습니다. 다시 로그인해 주세요."));
-            }
-            
-            Long userId = userResponse.getData().getId();
+            // JWT 클레임의 사용자 ID 사용
+            Long userId = currentUser.getId();
             boolean isJoined = studyService.isUserJoined(studyId, userId);
             return ResponseEntity.ok(UserDto.ApiResponse.success("참여 상태 조회 성공", isJoined));
         } catch (Exception e) {
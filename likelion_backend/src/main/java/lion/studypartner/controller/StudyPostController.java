@@ -1,5 +1,7 @@
 package lion.studypartner.controller;
 
+import lion.studypartner.config.CurrentUser;
+import lion.studypartner.config.UserPrincipal;
 import lion.studypartner.dto.StudyPostDto;
 import lion.studypartner.dto.UserDto;
 import lion.studypartner.service.StudyPostService;
@@ -8,7 +10,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -24,9 +25,9 @@ public class StudyPostController {
     public ResponseEntity<UserDto.ApiResponse<StudyPostDto.PostResponse>> createPost(
             @PathVariable Long studyId,
             @RequestBody StudyPostDto.CreateRequest request,
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser) {
         try {
-            Long authorId = Long.parseLong(authentication.getName());
+            Long authorId = currentUser.getId();
             StudyPostDto.PostResponse response = studyPostService.createPost(studyId, request, authorId);
             return ResponseEntity.ok(UserDto.ApiResponse.success("게시글이 작성되었습니다.", response));
         } catch (Exception e) {
@@ -40,9 +41,9 @@ public class StudyPostController {
             @PathVariable Long studyId,
             @PathVariable Long postId,
             @RequestBody StudyPostDto.UpdateRequest request,
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser) {
         try {
-            Long userId = Long.parseLong(authentication.getName());
+            Long userId = currentUser.getId();
             StudyPostDto.PostResponse response = studyPostService.updatePost(postId, request, userId);
             return ResponseEntity.ok(UserDto.ApiResponse.success("게시글이 수정되었습니다.", response));
         } catch (Exception e) {
@@ -90,14 +91,28 @@ public class StudyPostController {
         }
     }
     
+    // 스터디 내 게시글 검색 (관련도 순)
+    @GetMapping("/search")
+    public ResponseEntity<UserDto.ApiResponse<Page<StudyPostDto.PostListResponse>>> searchPosts(
+            @PathVariable Long studyId,
+            @RequestParam String keyword,
+            @PageableDefault(size = 10) Pageable pageable) {
+        try {
+            Page<StudyPostDto.PostListResponse> response = studyPostService.searchPosts(studyId, keyword, pageable);
+            return ResponseEntity.ok(UserDto.ApiResponse.success(response));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(UserDto.ApiResponse.error(e.getMessage()));
+        }
+    }
+    
     // 게시글 삭제
     @DeleteMapping("/{postId}")
     public ResponseEntity<UserDto.ApiResponse<String>> deletePost(
             @PathVariable Long studyId,
             @PathVariable Long postId,
-            Authentication authentication) {
+            @CurrentUser UserPrincipal currentUser) {
         try {
-            Long userId = Long.parseLong(authentication.getName());
+            Long userId = currentUser.getId();
             studyPostService.deletePost(postId, userId);
             return ResponseEntity.ok(UserDto.ApiResponse.success("게시글이 삭제되었습니다.", "success"));
         } catch (Exception e) {
@@ -1,5 +1,7 @@
 package lion.studypartner.controller;
 
+import lion.studypartner.config.CurrentUser;
+import lion.studypartner.config.UserPrincipal;
 import lion.studypartner.dto.UserDto;
 import lion.studypartner.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -42,6 +44,20 @@ public class UserController {
         }
     }
     
+    @PutMapping("/me")
+    public ResponseEntity<UserDto.ApiResponse<UserDto.UserInfo>> updateUserInfo(
+            @RequestBody UserDto.UpdateRequest request,
+            @CurrentUser UserPrincipal currentUser) {
+        if (currentUser == null) {
+            return ResponseEntity.status(401).body(UserDto.ApiResponse.error("인증이 필요합니다."));
+        }
+        UserDto.ApiResponse<UserDto.UserInfo> response = userService.updateUser(currentUser.getId(), request);
+        if (!response.isSuccess()) {
+            return ResponseEntity.badRequest().body(response);
+        }
+        return ResponseEntity.ok(response);
+    }
+    
     @GetMapping("/health")
     public ResponseEntity<String> health() {
         return ResponseEntity.ok("Study Partner API is running!");
@@ -41,4 +41,12 @@ public class StudyCreateRequest {
     private String meetingLink;
     
     private String contactInfo;
+    
+    @DecimalMin(value = "-90.0", message = "위도는 -90 이상이어야 합니다")
+    @DecimalMax(value = "90.0", message = "위도는 90 이하여야 합니다")
+    private Double latitude;
+    
+    @DecimalMin(value = "-180.0", message = "경도는 -180 이상이어야 합니다")
+    @DecimalMax(value = "180.0", message = "경도는 180 이하여야 합니다")
+    private Double longitude;
 } 
\ No newline at end of file
@@ -28,6 +28,8 @@ public class StudyDetailResponse {
     private String studyType;
     private String meetingLink;
     private String contactInfo;
+    private Double latitude;
+    private Double longitude;
     private UserInfo leader;
     private List<StudyMemberDto> members;
     private LocalDateTime createdAt;
@@ -49,6 +51,11 @@ public class StudyDetailResponse {
     }
     
     public static StudyDetailResponse from(Study study, Long currentUserId) {
+        return from(study, study != null ? study.getMembers() : null, currentUserId);
+    }
+    
+    // 멤버 목록을 별도로 조회한 경우 (지연 로딩 컬렉션을 건드리지 않음)
+    public static StudyDetailResponse from(Study study, List<StudyMember> members, Long currentUserId) {
         if (study == null) {
             throw new IllegalArgumentException("Study cannot be null");
         }
@@ -67,6 +74,8 @@ public class StudyDetailResponse {
         response.setStudyType(study.getStudyType());
         response.setMeetingLink(study.getMeetingLink());
         response.setContactInfo(study.getContactInfo());
+        response.setLatitude(study.getLatitude());
+        response.setLongitude(study.getLongitude());
         
         // 리더 정보 null 체크
         if (study.getLeader() != null) {
@@ -74,8 +83,8 @@ public class StudyDetailResponse {
         }
         
         // 멤버 정보 null 체크
-        if (study.getMembers() != null) {
-            response.setMembers(study.getMembers().stream()
+        if (members != null) {
+            response.setMembers(members.stream()
                     .filter(member -> member != null)
                     .map(StudyMemberDto::from)
                     .collect(Collectors.toList()));
@@ -94,8 +103,8 @@ public class StudyDetailResponse {
         }
         
         // 현재 사용자가 멤버인지 확인 (null 체크)
-        if (currentUserId != null && study.getMembers() != null) {
-            response.setIsMember(study.getMembers().stream()
+        if (currentUserId != null && members != null) {
+            response.setIsMember(members.stream()
                     .filter(member -> member != null && member.getUser() != null)
                     .anyMatch(member -> member.getUser().getId().equals(currentUserId)));
         } else {
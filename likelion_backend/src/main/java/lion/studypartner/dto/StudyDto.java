@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public class StudyDto {
     
@@ -25,6 +26,8 @@ public class StudyDto {
         private String studyType;
         private String meetingLink;
         private String contactInfo;
+        private Double latitude;
+        private Double longitude;
     }
     
     @Data
@@ -42,6 +45,8 @@ public class StudyDto {
         private String studyType;
         private String meetingLink;
         private String contactInfo;
+        private Double latitude;
+        private Double longitude;
         private String status;
     }
     
@@ -63,6 +68,8 @@ public class StudyDto {
         private String studyType;
         private String meetingLink;
         private String contactInfo;
+        private Double latitude;
+        private Double longitude;
         private UserDto.UserInfo leader;
         private List<StudyMemberResponse> members;
         private LocalDateTime createdAt;
@@ -96,10 +103,91 @@ public class StudyDto {
         private LocalDateTime startDate;
         private LocalDateTime endDate;
         private String studyType;
+        private Double latitude;
+        private Double longitude;
+        private Double distanceKm; // 위치 기반 검색일 때만 포함
         private UserDto.UserInfo leader;
         private LocalDateTime createdAt;
     }
     
+    // 키셋 페이지네이션 응답 (전체 개수 없이 다음 커서만 제공)
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CursorPageResponse<T> {
+        private List<T> content;
+        private int size;
+        private boolean hasNext;
+        private String nextCursor;
+    }
+    
+    // 패싯 검색 응답 (필터링 결과 + 패싯 값별 개수)
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FacetSearchResponse {
+        private List<StudyListResponse> content;
+        private int page;
+        private int size;
+        private long totalElements;
+        private Map<String, Map<String, Integer>> facets;
+    }
+    
+    // 여러 ID 일괄 조회 결과 (요청 순서 유지, 없는 ID는 missingIds)
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchResponse {
+        private List<StudyListResponse> studies;
+        private List<Long> missingIds;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AutocompleteResponse {
+        private List<String> categories;
+        private List<AutocompleteItem> studies;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AutocompleteItem {
+        private Long id;
+        private String title;
+        private String category;
+        private Integer currentParticipants;
+    }
+    
+    // 참여 요청 결과 (정원이 찼으면 study 대신 대기열 순번)
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JoinResponse {
+        private boolean waitlisted;
+        private StudyResponse study;
+        private WaitlistResponse waitlist;
+    }
+    
+    // 대기열 순번 (1부터 시작)
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class WaitlistResponse {
+        private Long studyId;
+        private long position;
+        private long waitingCount;
+        private LocalDateTime requestedAt;
+    }
+    
     @Data
     @Builder
     @NoArgsConstructor
@@ -118,5 +206,9 @@ public class StudyDto {
         private String location;
         private String studyType;
         private String status;
+        // 위치 기반 검색 (위도/경도가 모두 있으면 반경 내 가까운 순)
+        private Double latitude;
+        private Double longitude;
+        private Double radiusKm;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,36 @@
+package lion.studypartner.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 스터디 목록 조회용 JPQL 생성자 프로젝션 (study_cards 읽기 모델에서 리더까지 한 번에 조회)
+// 생성자 인자 순서와 타입은 StudyCardRepository.LIST_ROW_SELECT 와 일치해야 한다.
+@Getter
+@AllArgsConstructor
+public class StudyListRow {
+    
+    private Long id;
+    private String title;
+    private String category;
+    private String location;
+    private Integer maxParticipants;
+    private Integer currentParticipants;
+    private String status;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private String studyType;
+    private Double latitude;
+    private Double longitude;
+    private LocalDateTime createdAt;
+    
+    private Long leaderId;
+    private String leaderEmail;
+    private String leaderName;
+    private String leaderNickname;
+    private LocalDateTime leaderBirthDate;
+    private String leaderOccupation;
+    private String leaderEducationLevel;
+    private String leaderStatus;
+} 
\ No newline at end of file
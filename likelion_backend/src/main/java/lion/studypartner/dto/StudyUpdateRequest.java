@@ -35,6 +35,14 @@ public class StudyUpdateRequest {
     
     private String contactInfo;
     
+    @DecimalMin(value = "-90.0", message = "위도는 -90 이상이어야 합니다")
+    @DecimalMax(value = "90.0", message = "위도는 90 이하여야 합니다")
+    private Double latitude;
+    
+    @DecimalMin(value = "-180.0", message = "경도는 -180 이상이어야 합니다")
+    @DecimalMax(value = "180.0", message = "경도는 180 이하여야 합니다")
+    private Double longitude;
+    
     @Pattern(regexp = "^(recruiting|in_progress|completed|cancelled)$", message = "상태는 recruiting, in_progress, completed, cancelled 중 하나여야 합니다")
     private String status;
 } 
\ No newline at end of file
@@ -22,6 +22,19 @@ public class UserDto {
         private String status;
     }
     
+    // 프로필 수정 (null인 항목은 변경하지 않음)
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UpdateRequest {
+        private String name;
+        private String nickname;
+        private LocalDateTime birthDate;
+        private String occupation;
+        private String educationLevel;
+        private String status;
+    }
+    
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
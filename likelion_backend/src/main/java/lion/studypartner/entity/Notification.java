@@ -9,14 +9,18 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        // 보관 기간이 지난 알림 정리
+        @Index(name = "idx_notifications_created_at", columnList = "created_at")
+})
 @Getter
 @Setter
 @EntityListeners(AuditingEntityListener.class)
 public class Notification {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq_generator")
+    @SequenceGenerator(name = "notification_seq_generator", sequenceName = "notifications_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,55 @@
+package lion.studypartner.entity;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// 알림 아웃박스 (도메인 변경과 같은 트랜잭션에 기록하고 디스패처가 커밋 후 처리)
+@Entity
+@Table(name = "outbox_events", indexes = {
+        // 처리 대기 중인 이벤트를 id 순으로 조회
+        @Index(name = "idx_outbox_events_status_next", columnList = "status, next_attempt_at, id")
+})
+@Getter
+@Setter
+@EntityListeners(AuditingEntityListener.class)
+public class OutboxEvent {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq_generator")
+    @SequenceGenerator(name = "outbox_event_seq_generator", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(nullable = false)
+    private String type; // study_join, study_leave, study_waitlist_promoted
+    
+    // 처리 전에 스터디가 삭제될 수 있으므로 연관관계 대신 ID만 보관
+    @Column(name = "study_id", nullable = false)
+    private Long studyId;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(nullable = false)
+    private String status = "pending"; // pending, processed, skipped, failed
+    
+    @Column(nullable = false)
+    private int attempts = 0;
+    
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+    
+    @Column(length = 500)
+    private String lastError;
+    
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column
+    private LocalDateTime processedAt;
+} 
\ No newline at end of file
@@ -2,6 +2,8 @@ package lion.studypartner.entity;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,14 +14,19 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "studies")
+@Table(name = "studies", indexes = {
+        @Index(name = "idx_studies_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_studies_participants_id", columnList = "current_participants, id")
+})
 @Getter
 @Setter
 @EntityListeners(AuditingEntityListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Study {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "study_seq_generator")
+    @SequenceGenerator(name = "study_seq_generator", sequenceName = "studies_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -52,6 +59,13 @@ public class Study {
     @Column(nullable = false)
     private String studyType; // online, offline, hybrid
     
+    // 오프라인/하이브리드 모임 장소 좌표 (선택)
+    @Column
+    private Double latitude;
+    
+    @Column
+    private Double longitude;
+    
     @Column
     private String meetingLink;
     
@@ -93,6 +107,22 @@ public class Study {
         return currentParticipants >= maxParticipants;
     }
     
+    // 정원 미달일 때만 참여자 수 증가 (스터디 행 잠금 상태에서 호출, 만석이면 false)
+    public boolean reserveSeat() {
+        if (isFull()) {
+            return false;
+        }
+        currentParticipants++;
+        return true;
+    }
+    
+    // 참여자 수 감소 (0 아래로는 내려가지 않음)
+    public void releaseSeat() {
+        if (currentParticipants > 0) {
+            currentParticipants--;
+        }
+    }
+    
     public boolean canJoin() {
         return status.equals("recruiting") && !isFull();
     }
@@ -0,0 +1,87 @@
+package lion.studypartner.entity;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// 목록/검색 화면용 스터디 카드 읽기 모델 (리더 정보를 비정규화해 조인 없이 조회)
+// 설명(TEXT)은 목록 응답에 쓰이지 않으므로 복사하지 않는다. 키워드 조건은 studies를 서브쿼리로 확인.
+// StudyCardProjector가 스터디 변경 이벤트로 같은 트랜잭션 안에서 갱신한다.
+@Entity
+@Table(name = "study_cards", indexes = {
+        @Index(name = "idx_study_cards_created_at_id", columnList = "created_at, study_id"),
+        @Index(name = "idx_study_cards_participants_id", columnList = "current_participants, study_id"),
+        @Index(name = "idx_study_cards_category", columnList = "category")
+})
+@Getter
+@Setter
+public class StudyCard {
+    
+    // 스터디 ID와 동일 (정렬 파라미터 호환을 위해 필드명은 id)
+    @Id
+    @Column(name = "study_id")
+    private Long id;
+    
+    @Column(nullable = false)
+    private String title;
+    
+    @Column(nullable = false)
+    private String category;
+    
+    @Column(nullable = false)
+    private String location;
+    
+    @Column(nullable = false)
+    private Integer maxParticipants;
+    
+    @Column(nullable = false)
+    private Integer currentParticipants;
+    
+    @Column(nullable = false)
+    private String status;
+    
+    @Column(nullable = false)
+    private LocalDateTime startDate;
+    
+    @Column(nullable = false)
+    private LocalDateTime endDate;
+    
+    @Column(nullable = false)
+    private String studyType;
+    
+    @Column
+    private Double latitude;
+    
+    @Column
+    private Double longitude;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    // 리더 정보 (스터디 생성 시 복사, 리더 프로필 변경은 UserChangedEvent로 일괄 갱신)
+    @Column(nullable = false)
+    private Long leaderId;
+    
+    @Column
+    private String leaderEmail;
+    
+    @Column
+    private String leaderName;
+    
+    @Column
+    private String leaderNickname;
+    
+    @Column
+    private LocalDateTime leaderBirthDate;
+    
+    @Column
+    private String leaderOccupation;
+    
+    @Column
+    private String leaderEducationLevel;
+    
+    @Column
+    private String leaderStatus;
+} 
\ No newline at end of file
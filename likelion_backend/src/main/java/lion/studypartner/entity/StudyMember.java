@@ -2,6 +2,8 @@ package lion.studypartner.entity;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -9,14 +11,19 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "study_members")
+@Table(name = "study_members", uniqueConstraints = {
+        // 사용자당 스터디 멤버십은 하나 (재참여 시 기존 행을 재활성화)
+        @UniqueConstraint(name = "uk_study_members_study_user", columnNames = {"study_id", "user_id"})
+})
 @Getter
 @Setter
 @EntityListeners(AuditingEntityListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class StudyMember {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "study_member_seq_generator")
+    @SequenceGenerator(name = "study_member_seq_generator", sequenceName = "study_members_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -33,8 +40,9 @@ public class StudyMember {
     @Column(nullable = false)
     private String status = "active"; // active, inactive, banned
     
+    // 탈퇴 후 재참여하면 재참여 시각으로 갱신
     @CreatedDate
-    @Column(nullable = false, updatable = false)
+    @Column(nullable = false)
     private LocalDateTime joinedAt;
     
     @Column
@@ -10,14 +10,18 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "study_posts")
+@Table(name = "study_posts", indexes = {
+        // 삭제 처리된 게시글 정리
+        @Index(name = "idx_study_posts_status_updated_at", columnList = "status, updated_at")
+})
 @Getter
 @Setter
 @EntityListeners(AuditingEntityListener.class)
 public class StudyPost {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "study_post_seq_generator")
+    @SequenceGenerator(name = "study_post_seq_generator", sequenceName = "study_posts_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,40 @@
+package lion.studypartner.entity;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// 정원이 찬 스터디의 참여 대기열 (스터디별로 id 순 FIFO)
+@Entity
+@Table(name = "study_waitlist", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_study_waitlist_study_user", columnNames = {"study_id", "user_id"})
+}, indexes = {
+        // 맨 앞 조회와 순번 계산을 인덱스 범위 탐색으로 처리
+        @Index(name = "idx_study_waitlist_study_id", columnList = "study_id, id")
+})
+@Getter
+@Setter
+@EntityListeners(AuditingEntityListener.class)
+public class StudyWaitlistEntry {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "study_waitlist_seq_generator")
+    @SequenceGenerator(name = "study_waitlist_seq_generator", sequenceName = "study_waitlist_seq", allocationSize = 50)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "study_id", nullable = false)
+    private Study study;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+    
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+} 
\ No newline at end of file
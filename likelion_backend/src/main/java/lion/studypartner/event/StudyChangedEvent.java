@@ -0,0 +1,48 @@
+package lion.studypartner.event;
+
+import lombok.Getter;
+
+// StudyService에서 스터디가 변경될 때 발행되는 도메인 이벤트
+@Getter
+public class StudyChangedEvent {
+    
+    public enum Type {
+        CREATED, UPDATED, DELETED, JOINED, LEFT
+    }
+    
+    private final Type type;
+    private final Long studyId;
+    private final StudySnapshot previous; // 변경 전 값 (생성 이벤트에서는 null)
+    private final StudySnapshot study; // 삭제 이벤트에서는 null
+    
+    private StudyChangedEvent(Type type, Long studyId, StudySnapshot previous, StudySnapshot study) {
+        this.type = type;
+        this.studyId = studyId;
+        this.previous = previous;
+        this.study = study;
+    }
+    
+    public static StudyChangedEvent created(StudySnapshot study) {
+        return new StudyChangedEvent(Type.CREATED, study.getId(), null, study);
+    }
+    
+    public static StudyChangedEvent updated(StudySnapshot previous, StudySnapshot study) {
+        return new StudyChangedEvent(Type.UPDATED, study.getId(), previous, study);
+    }
+    
+    public static StudyChangedEvent deleted(StudySnapshot previous) {
+        return new StudyChangedEvent(Type.DELETED, previous.getId(), previous, null);
+    }
+    
+    public static StudyChangedEvent joined(StudySnapshot previous, StudySnapshot study) {
+        return new StudyChangedEvent(Type.JOINED, study.getId(), previous, study);
+    }
+    
+    public static StudyChangedEvent left(StudySnapshot previous, StudySnapshot study) {
+        return new StudyChangedEvent(Type.LEFT, study.getId(), previous, study);
+    }
+    
+    public boolean isDeleted() {
+        return type == Type.DELETED;
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,30 @@
+package lion.studypartner.event;
+
+import lion.studypartner.entity.StudyPost;
+import lombok.Getter;
+
+// StudyPostService에서 게시글이 변경될 때 발행되는 도메인 이벤트
+@Getter
+public class StudyPostChangedEvent {
+    
+    private final Long postId;
+    private final Long studyId;
+    private final String title;
+    private final String content;
+    private final boolean active; // false면 검색 대상에서 제외 (soft delete)
+    
+    private StudyPostChangedEvent(StudyPost post) {
+        this.postId = post.getId();
+        this.studyId = post.getStudy().getId();
+        this.title = post.getTitle();
+        this.content = post.getContent();
+        this.active = "active".equals(post.getStatus());
+    }
+    
+    public static StudyPostChangedEvent from(StudyPost post) {
+        if (post == null) {
+            throw new IllegalArgumentException("StudyPost cannot be null");
+        }
+        return new StudyPostChangedEvent(post);
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,54 @@
+package lion.studypartner.event;
+
+import lion.studypartner.entity.Study;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 커밋 이후 인메모리 인덱스가 참조하는 스터디 값 복사본 (지연 로딩 없이 사용 가능)
+@Getter
+public class StudySnapshot {
+    
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final String category;
+    private final String location;
+    private final String studyType;
+    private final Double latitude;
+    private final Double longitude;
+    private final String status;
+    private final Integer maxParticipants;
+    private final Integer currentParticipants;
+    private final LocalDateTime startDate;
+    private final LocalDateTime endDate;
+    private final Long leaderId;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    
+    private StudySnapshot(Study study) {
+        this.id = study.getId();
+        this.title = study.getTitle();
+        this.description = study.getDescription();
+        this.category = study.getCategory();
+        this.location = study.getLocation();
+        this.studyType = study.getStudyType();
+        this.latitude = study.getLatitude();
+        this.longitude = study.getLongitude();
+        this.status = study.getStatus();
+        this.maxParticipants = study.getMaxParticipants();
+        this.currentParticipants = study.getCurrentParticipants();
+        this.startDate = study.getStartDate();
+        this.endDate = study.getEndDate();
+        this.leaderId = study.getLeader() != null ? study.getLeader().getId() : null;
+        this.createdAt = study.getCreatedAt();
+        this.updatedAt = study.getUpdatedAt();
+    }
+    
+    public static StudySnapshot from(Study study) {
+        if (study == null) {
+            throw new IllegalArgumentException("Study cannot be null");
+        }
+        return new StudySnapshot(study);
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,38 @@
+package lion.studypartner.event;
+
+import lion.studypartner.entity.User;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// UserService에서 사용자 프로필이 변경될 때 발행되는 도메인 이벤트 (스터디 카드의 리더 정보 동기화용)
+@Getter
+public class UserChangedEvent {
+    
+    private final Long userId;
+    private final String email;
+    private final String name;
+    private final String nickname;
+    private final LocalDateTime birthDate;
+    private final String occupation;
+    private final String educationLevel;
+    private final String status;
+    
+    private UserChangedEvent(User user) {
+        this.userId = user.getId();
+        this.email = user.getEmail();
+        this.name = user.getName();
+        this.nickname = user.getNickname();
+        this.birthDate = user.getBirthDate();
+        this.occupation = user.getOccupation();
+        this.educationLevel = user.getEducationLevel();
+        this.status = user.getStatus();
+    }
+    
+    public static UserChangedEvent from(User user) {
+        if (user == null) {
+            throw new IllegalArgumentException("User cannot be null");
+        }
+        return new UserChangedEvent(user);
+    }
+} 
\ No newline at end of file
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -39,8 +40,7 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("UPDATE Notification n SET n.status = 'read', n.readAt = CURRENT_TIMESTAMP WHERE n.user.id = :userId")
     void markAllAsRead(@Param("userId") Long userId);
     
-    // 오래된 알림 삭제 (30일 이상)
-    @Modifying
-    @Query("DELETE FROM Notification n WHERE n.createdAt < :date")
-    void deleteOldNotifications(@Param("date") java.time.LocalDateTime date);
+    // 보관 기간이 지난 알림 ID (보관 정리 작업이 청크 단위로 삭제)
+    @Query("SELECT n.id FROM Notification n WHERE n.createdAt < :cutoff ORDER BY n.id")
+    List<Long> findIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
 } 
\ No newline at end of file
@@ -0,0 +1,26 @@
+package lion.studypartner.repository;
+
+import lion.studypartner.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    
+    // 처리할 차례가 된 이벤트 ID (기록 순)
+    @Query("SELECT e.id FROM OutboxEvent e WHERE e.status = 'pending' AND e.nextAttemptAt <= :now ORDER BY e.id")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+    
+    // 처리 완료(건너뜀 포함) 후 보관 기간이 지난 이벤트 ID (보관 정리 작업이 청크 단위로 삭제)
+    @Query("SELECT e.id FROM OutboxEvent e WHERE e.status IN ('processed', 'skipped') AND e.processedAt < :cutoff ORDER BY e.id")
+    List<Long> findProcessedIdsBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+    
+    // 상태별 이벤트 수
+    long countByStatus(String status);
+} 
\ No newline at end of file
@@ -0,0 +1,167 @@
+package lion.studypartner.repository;
+
+import lion.studypartner.dto.StudyListRow;
+import lion.studypartner.entity.StudyCard;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+// 목록/검색 읽기 전용 쿼리 (study_cards 단일 테이블, 조인 없음)
+@Repository
+public interface StudyCardRepository extends JpaRepository<StudyCard, Long> {
+    
+    // 목록 행 프로젝션 (설명 TEXT는 조회하지 않음)
+    String LIST_ROW_SELECT =
+            "SELECT new lion.studypartner.dto.StudyListRow(" +
+            "c.id, c.title, c.category, c.location, c.maxParticipants, c.currentParticipants, c.status, " +
+            "c.startDate, c.endDate, c.studyType, c.latitude, c.longitude, c.createdAt, " +
+            "c.leaderId, c.leaderEmail, c.leaderName, c.leaderNickname, c.leaderBirthDate, " +
+            "c.leaderOccupation, c.leaderEducationLevel, c.leaderStatus) " +
+            "FROM StudyCard c ";
+    
+    // 검색 공통 조건 (목록/키셋 페이지네이션 쿼리에서 재사용)
+    String SEARCH_FILTER =
+            "(:category IS NULL OR c.category = :category) AND " +
+            "(:location IS NULL OR c.location LIKE %:location%) AND " +
+            "(:studyType IS NULL OR c.studyType = :studyType) AND " +
+            "(:status IS NULL OR c.status = :status) ";
+    // 설명은 카드에 없으므로 검색 인덱스를 쓰지 못할 때만 studies 기본키 서브쿼리로 확인
+    String KEYWORD_FILTER =
+            "AND (:keyword IS NULL OR c.title LIKE %:keyword% " +
+            "OR EXISTS (SELECT s.id FROM Study s WHERE s.id = c.id AND s.description LIKE %:keyword%)) ";
+    String CREATED_AT_SEEK =
+            "AND (:cursorCreatedAt IS NULL OR c.createdAt < :cursorCreatedAt " +
+            "OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC";
+    String PARTICIPANTS_SEEK =
+            "AND (:cursorParticipants IS NULL OR c.currentParticipants < :cursorParticipants " +
+            "OR (c.currentParticipants = :cursorParticipants AND c.id < :cursorId)) " +
+            "ORDER BY c.currentParticipants DESC, c.id DESC";
+    
+    // 전체 목록
+    @Query(value = LIST_ROW_SELECT,
+           countQuery = "SELECT COUNT(c) FROM StudyCard c")
+    Page<StudyListRow> findListRows(Pageable pageable);
+    
+    // 복합 검색
+    @Query(value = LIST_ROW_SELECT + "WHERE " + SEARCH_FILTER + KEYWORD_FILTER,
+           countQuery = "SELECT COUNT(c) FROM StudyCard c WHERE " + SEARCH_FILTER + KEYWORD_FILTER)
+    Page<StudyListRow> findListRowsBySearchCriteria(
+            @Param("category") String category,
+            @Param("location") String location,
+            @Param("studyType") String studyType,
+            @Param("status") String status,
+            @Param("keyword") String keyword,
+            Pageable pageable
+    );
+    
+    // 검색 인덱스가 찾은 후보 ID 내에서 복합 검색
+    @Query(value = LIST_ROW_SELECT + "WHERE c.id IN :ids AND " + SEARCH_FILTER,
+           countQuery = "SELECT COUNT(c) FROM StudyCard c WHERE c.id IN :ids AND " + SEARCH_FILTER)
+    Page<StudyListRow> findListRowsBySearchCriteriaAndIdIn(
+            @Param("category") String category,
+            @Param("location") String location,
+            @Param("studyType") String studyType,
+            @Param("status") String status,
+            @Param("ids") Collection<Long> ids,
+            Pageable pageable
+    );
+    
+    // 사용자가 참여 중인 스터디 (멤버십은 서브쿼리로 확인)
+    @Query(value = LIST_ROW_SELECT + "WHERE c.id IN (" +
+                   "SELECT m.study.id FROM StudyMember m WHERE m.user.id = :userId AND m.status = 'active')",
+           countQuery = "SELECT COUNT(m) FROM StudyMember m WHERE m.user.id = :userId AND m.status = 'active'")
+    Page<StudyListRow> findListRowsByMemberId(@Param("userId") Long userId, Pageable pageable);
+    
+    // ID 목록으로 목록 행 조회 (순서는 호출 측에서 맞춤)
+    @Query(LIST_ROW_SELECT + "WHERE c.id IN :ids")
+    List<StudyListRow> findListRowsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 키셋 페이지네이션 - 최신순 (COUNT 쿼리 없음)
+    @Query(LIST_ROW_SELECT + "WHERE " + SEARCH_FILTER + KEYWORD_FILTER + CREATED_AT_SEEK)
+    List<StudyListRow> findListRowsBySearchCriteriaAfterCreatedAt(
+            @Param("category") String category,
+            @Param("location") String location,
+            @Param("studyType") String studyType,
+            @Param("status") String status,
+            @Param("keyword") String keyword,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+    
+    // 키셋 페이지네이션 - 최신순 (검색 인덱스 후보 ID 내)
+    @Query(LIST_ROW_SELECT + "WHERE c.id IN :ids AND " + SEARCH_FILTER + CREATED_AT_SEEK)
+    List<StudyListRow> findListRowsBySearchCriteriaAndIdInAfterCreatedAt(
+            @Param("category") String category,
+            @Param("location") String location,
+            @Param("studyType") String studyType,
+            @Param("status") String status,
+            @Param("ids") Collection<Long> ids,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+    
+    // 키셋 페이지네이션 - 인기순 (COUNT 쿼리 없음)
+    @Query(LIST_ROW_SELECT + "WHERE " + SEARCH_FILTER + KEYWORD_FILTER + PARTICIPANTS_SEEK)
+    List<StudyListRow> findListRowsBySearchCriteriaAfterParticipants(
+            @Param("category") String category,
+            @Param("location") String location,
+            @Param("studyType") String studyType,
+            @Param("status") String status,
+            @Param("keyword") String keyword,
+            @Param("cursorParticipants") Integer cursorParticipants,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+    
+    // 키셋 페이지네이션 - 인기순 (검색 인덱스 후보 ID 내)
+    @Query(LIST_ROW_SELECT + "WHERE c.id IN :ids AND " + SEARCH_FILTER + PARTICIPANTS_SEEK)
+    List<StudyListRow> findListRowsBySearchCriteriaAndIdInAfterParticipants(
+            @Param("category") String category,
+            @Param("location") String location,
+            @Param("studyType") String studyType,
+            @Param("status") String status,
+            @Param("ids") Collection<Long> ids,
+            @Param("cursorParticipants") Integer cursorParticipants,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+    
+    @Modifying
+    @Query("DELETE FROM StudyCard c WHERE c.id = :studyId")
+    int deleteByStudyId(@Param("studyId") Long studyId);
+    
+    // 리더 프로필 변경 시 해당 리더의 카드 일괄 갱신
+    @Modifying
+    @Query("UPDATE StudyCard c SET c.leaderEmail = :email, c.leaderName = :name, c.leaderNickname = :nickname, " +
+           "c.leaderBirthDate = :birthDate, c.leaderOccupation = :occupation, " +
+           "c.leaderEducationLevel = :educationLevel, c.leaderStatus = :status WHERE c.leaderId = :leaderId")
+    int updateLeader(@Param("leaderId") Long leaderId,
+                     @Param("email") String email,
+                     @Param("name") String name,
+                     @Param("nickname") String nickname,
+                     @Param("birthDate") LocalDateTime birthDate,
+                     @Param("occupation") String occupation,
+                     @Param("educationLevel") String educationLevel,
+                     @Param("status") String status);
+    
+    // 기동 시 전체 재구성 (studies + users 조인은 이 한 번만 수행)
+    @Modifying
+    @Query("INSERT INTO StudyCard (id, title, category, location, maxParticipants, currentParticipants, " +
+           "status, startDate, endDate, studyType, latitude, longitude, createdAt, leaderId, leaderEmail, leaderName, " +
+           "leaderNickname, leaderBirthDate, leaderOccupation, leaderEducationLevel, leaderStatus) " +
+           "SELECT s.id, s.title, s.category, s.location, s.maxParticipants, s.currentParticipants, " +
+           "s.status, s.startDate, s.endDate, s.studyType, s.latitude, s.longitude, s.createdAt, l.id, l.email, l.name, " +
+           "l.nickname, l.birthDate, l.occupation, l.educationLevel, l.status FROM Study s JOIN s.leader l")
+    int insertAllFromStudies();
+} 
\ No newline at end of file
@@ -1,6 +1,7 @@
 package lion.studypartner.repository;
 
 import lion.studypartner.entity.StudyMember;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -18,6 +19,16 @@ public interface StudyMemberRepository extends JpaRepository<StudyMember, Long>
     // 스터디의 활성 멤버 조회
     List<StudyMember> findByStudyIdAndStatus(Long studyId, String status);
     
+    // 상세 조회용 활성 멤버 (사용자를 같은 SQL에서 페치 조인)
+    @Query("SELECT sm FROM StudyMember sm JOIN FETCH sm.user " +
+           "WHERE sm.study.id = :studyId AND sm.status = 'active' ORDER BY sm.id")
+    List<StudyMember> findActiveWithUserByStudyId(@Param("studyId") Long studyId);
+    
+    // 알림 대상인 활성 일반 멤버의 사용자 ID (리더 제외, 예전 데이터의 대문자 'LEADER'도 제외)
+    @Query("SELECT sm.user.id FROM StudyMember sm " +
+           "WHERE sm.study.id = :studyId AND sm.status = 'active' AND sm.role NOT IN ('leader', 'LEADER') ORDER BY sm.id")
+    List<Long> findActiveMemberUserIds(@Param("studyId") Long studyId);
+    
     // 사용자가 참여 중인 스터디 멤버십 조회
     List<StudyMember> findByUserId(Long userId);
     
@@ -33,4 +44,9 @@ public interface StudyMemberRepository extends JpaRepository<StudyMember, Long>
     
     // 사용자가 리더인 스터디 멤버십 조회
     List<StudyMember> findByUserIdAndRole(Long userId, String role);
+    
+    // 추천 계산용 활성 멤버십 [멤버십 ID, 스터디 ID, 사용자 ID] (ID 순 배치 조회)
+    @Query("SELECT sm.id, sm.study.id, sm.user.id FROM StudyMember sm " +
+           "WHERE sm.status = 'active' AND sm.id > :lastId ORDER BY sm.id")
+    List<Object[]> findActiveMembershipRows(@Param("lastId") Long lastId, Pageable pageable);
 } 
\ No newline at end of file
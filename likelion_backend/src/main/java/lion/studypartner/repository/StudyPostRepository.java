@@ -8,6 +8,10 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface StudyPostRepository extends JpaRepository<StudyPost, Long> {
     
@@ -29,10 +33,28 @@ public interface StudyPostRepository extends JpaRepository<StudyPost, Long> {
     // 내용으로 검색
     Page<StudyPost> findByContentContaining(String content, Pageable pageable);
     
-    // 제목 또는 내용으로 검색
-    @Query("SELECT sp FROM StudyPost sp WHERE sp.title LIKE %:keyword% OR sp.content LIKE %:keyword%")
+    // 제목 또는 내용으로 검색 (검색 인덱스 구성 전 대체 경로, 인덱스와 같이 활성 글만)
+    @Query("SELECT sp FROM StudyPost sp WHERE sp.status = 'active' " +
+           "AND (sp.title LIKE %:keyword% OR sp.content LIKE %:keyword%)")
     Page<StudyPost> findByKeyword(@Param("keyword") String keyword, Pageable pageable);
     
+    // 스터디 안에서 제목 또는 내용으로 검색 (검색 인덱스 구성 전 대체 경로, 인덱스와 같이 활성 글만)
+    @Query("SELECT sp FROM StudyPost sp WHERE sp.study.id = :studyId AND sp.status = 'active' " +
+           "AND (sp.title LIKE %:keyword% OR sp.content LIKE %:keyword%)")
+    Page<StudyPost> findByStudyIdAndKeyword(@Param("studyId") Long studyId, @Param("keyword") String keyword,
+                                            Pageable pageable);
+    
+    // 검색 결과 ID로 게시글과 작성자를 함께 조회
+    @Query("SELECT sp FROM StudyPost sp JOIN FETCH sp.author WHERE sp.id IN :ids")
+    List<StudyPost> findWithAuthorByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 검색 인덱스 재구성을 위한 ID 순 배치 조회
+    List<StudyPost> findByStatusAndIdGreaterThanOrderByIdAsc(String status, Long id, Pageable pageable);
+    
+    // 삭제 처리 후 보관 기간이 지난 게시글 ID (보관 정리 작업이 청크 단위로 삭제)
+    @Query("SELECT sp.id FROM StudyPost sp WHERE sp.status = 'deleted' AND sp.updatedAt < :cutoff ORDER BY sp.id")
+    List<Long> findDeletedIdsBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+    
     // 스터디의 최근 게시글 조회
     Page<StudyPost> findByStudyIdOrderByCreatedAtDesc(Long studyId, Pageable pageable);
     
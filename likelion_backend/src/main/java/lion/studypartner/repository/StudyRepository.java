@@ -4,12 +4,16 @@ import lion.studypartner.entity.Study;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface StudyRepository extends JpaRepository<Study, Long> {
@@ -49,6 +53,23 @@ public interface StudyRepository extends JpaRepository<Study, Long> {
             Pageable pageable
     );
     
+    // 인덱스 재구성을 위한 ID 순 배치 조회
+    List<Study> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    
+    // 상세 조회용 (리더를 같은 SQL에서 페치 조인)
+    @Query("SELECT s FROM Study s JOIN FETCH s.leader WHERE s.id = :studyId")
+    Optional<Study> findWithLeaderById(@Param("studyId") Long studyId);
+    
+    // 상세 ETag 계산용 버전 [수정 시각, 멤버십 수, 마지막 멤버십 ID, 마지막 탈퇴 시각, 리더 수정 시각]
+    @Query("SELECT s.updatedAt, COUNT(m.id), MAX(m.id), MAX(m.leftAt), l.updatedAt FROM Study s JOIN s.leader l " +
+           "LEFT JOIN s.members m WHERE s.id = :studyId GROUP BY s.id, s.updatedAt, l.updatedAt")
+    List<Object[]> findDetailVersion(@Param("studyId") Long studyId);
+    
+    // 스터디 행 쓰기 잠금 (참여/탈퇴/대기열 승격을 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Study s WHERE s.id = :studyId")
+    Optional<Study> findForUpdateById(@Param("studyId") Long studyId);
+    
     // 모집 중인 스터디 조회
     Page<Study> findByStatusAndStartDateAfter(String status, LocalDateTime startDate, Pageable pageable);
     
@@ -61,4 +82,9 @@ public interface StudyRepository extends JpaRepository<Study, Long> {
     
     // 인기 스터디 조회 (참여자 수 기준)
     Page<Study> findByOrderByCurrentParticipantsDesc(Pageable pageable);
+    
+    // 추천 대상 스터디 ID (참여 가능 상태, 정원 미달, 시작 전)
+    @Query("SELECT s.id FROM Study s WHERE s.status IN :statuses " +
+           "AND s.currentParticipants < s.maxParticipants AND s.startDate > :now")
+    List<Long> findJoinableIds(@Param("statuses") Collection<String> statuses, @Param("now") LocalDateTime now);
 } 
\ No newline at end of file
@@ -0,0 +1,36 @@
+package lion.studypartner.repository;
+
+import lion.studypartner.entity.StudyWaitlistEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface StudyWaitlistRepository extends JpaRepository<StudyWaitlistEntry, Long> {
+    
+    // 대기열 맨 앞 (가장 먼저 등록한 사용자)
+    Optional<StudyWaitlistEntry> findFirstByStudyIdOrderByIdAsc(Long studyId);
+    
+    // 사용자의 대기 항목
+    Optional<StudyWaitlistEntry> findByStudyIdAndUserId(Long studyId, Long userId);
+    
+    // 대기 순번 계산용 (자신을 포함해 앞에 있는 항목 수)
+    long countByStudyIdAndIdLessThanEqual(Long studyId, Long id);
+    
+    // 스터디의 대기 인원
+    long countByStudyId(Long studyId);
+    
+    // 대기 취소 / 대기 중 빈자리로 참여한 경우 제거
+    @Modifying
+    @Query("DELETE FROM StudyWaitlistEntry w WHERE w.study.id = :studyId AND w.user.id = :userId")
+    int deleteByStudyIdAndUserId(@Param("studyId") Long studyId, @Param("userId") Long userId);
+    
+    // 스터디 삭제 시 대기열 정리
+    @Modifying
+    @Query("DELETE FROM StudyWaitlistEntry w WHERE w.study.id = :studyId")
+    int deleteAllByStudyId(@Param("studyId") Long studyId);
+} 
\ No newline at end of file
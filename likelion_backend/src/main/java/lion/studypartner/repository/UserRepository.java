@@ -1,8 +1,12 @@
 package lion.studypartner.repository;
 
 import lion.studypartner.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +15,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     boolean existsByNickname(String nickname);
     Optional<User> findByProviderAndProviderId(String provider, String providerId);
+    
+    // 추천 계산용 프로필 [사용자 ID, 직업, 학력] (ID 순 배치 조회)
+    @Query("SELECT u.id, u.occupation, u.educationLevel FROM User u WHERE u.id > :lastId ORDER BY u.id")
+    List<Object[]> findProfileRows(@Param("lastId") Long lastId, Pageable pageable);
 } 
\ No newline at end of file
@@ -0,0 +1,89 @@
+package lion.studypartner.search;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// 한글/영문 공통 문자 n-gram 토크나이저
+// 형태소 분석 없이 한글 음절과 영문 글자를 같은 방식으로 다룬다.
+public final class NGramTokenizer {
+    
+    private NGramTokenizer() {
+    }
+    
+    // NFC 정규화 + 소문자 변환 + 연속 공백 축약
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        return normalized.replaceAll("\\s+", " ").trim();
+    }
+    
+    // 색인용 토큰: 유니그램 + 바이그램 (공백을 포함하는 n-gram은 제외)
+    public static Set<String> indexGrams(String normalizedText) {
+        Set<String> grams = new LinkedHashSet<>();
+        int length = normalizedText.length();
+        for (int i = 0; i < length; i++) {
+            char current = normalizedText.charAt(i);
+            if (Character.isWhitespace(current)) {
+                continue;
+            }
+            grams.add(String.valueOf(current));
+            if (i + 1 < length && !Character.isWhitespace(normalizedText.charAt(i + 1))) {
+                grams.add(normalizedText.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+    
+    // 검색어 토큰: 두 글자 이상이면 바이그램만, 한 글자면 유니그램 사용
+    public static Set<String> queryGrams(String normalizedQuery) {
+        Set<String> bigrams = bigrams(normalizedQuery);
+        if (!bigrams.isEmpty()) {
+            return bigrams;
+        }
+        Set<String> unigrams = new LinkedHashSet<>();
+        for (int i = 0; i < normalizedQuery.length(); i++) {
+            char current = normalizedQuery.charAt(i);
+            if (!Character.isWhitespace(current)) {
+                unigrams.add(String.valueOf(current));
+            }
+        }
+        return unigrams;
+    }
+    
+    // 랭킹용 토큰 빈도: 바이그램 + 한 글자 단어 (유니그램 전체를 색인하면 본문이 긴 경우 부담이 크다)
+    public static Map<String, Integer> termFrequencies(String normalizedText) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = normalizedText.length();
+        for (int i = 0; i < length; i++) {
+            if (Character.isWhitespace(normalizedText.charAt(i))) {
+                continue;
+            }
+            boolean hasNext = i + 1 < length && !Character.isWhitespace(normalizedText.charAt(i + 1));
+            boolean hasPrevious = i > 0 && !Character.isWhitespace(normalizedText.charAt(i - 1));
+            if (hasNext) {
+                frequencies.merge(normalizedText.substring(i, i + 2), 1, Integer::sum);
+            } else if (!hasPrevious) {
+                frequencies.merge(String.valueOf(normalizedText.charAt(i)), 1, Integer::sum);
+            }
+        }
+        return frequencies;
+    }
+    
+    // 바이그램만 추출 (공백 경계는 제외)
+    public static Set<String> bigrams(String normalizedText) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < normalizedText.length(); i++) {
+            if (!Character.isWhitespace(normalizedText.charAt(i))
+                    && !Character.isWhitespace(normalizedText.charAt(i + 1))) {
+                grams.add(normalizedText.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+} 
\ No newline at end of file
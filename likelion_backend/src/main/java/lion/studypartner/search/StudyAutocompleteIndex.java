@@ -0,0 +1,338 @@
+package lion.studypartner.search;
+
+import lion.studypartner.event.StudySnapshot;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+// 검색창 자동완성용 접두사 트라이
+// 제목 전체와 각 단어 시작 위치를 키로 넣고, 노드마다 참여자 수 상위 스터디를 캐시해 조회 시 정렬을 피한다.
+@Component
+public class StudyAutocompleteIndex implements StudyIndex {
+    
+    public static final int MAX_SUGGESTIONS = 10;
+    
+    // 키 길이 제한 (긴 제목이 트라이 깊이를 키우지 않도록)
+    private static final int MAX_KEY_LENGTH = 20;
+    
+    private final Node root = new Node();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<String, CategoryStat> categories = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+    
+    // 참여자 수 내림차순, 같으면 최신(ID 내림차순) 우선
+    private final Comparator<Long> ranking = (left, right) -> {
+        int compare = Integer.compare(entries.get(right).participants, entries.get(left).participants);
+        return compare != 0 ? compare : Long.compare(right, left);
+    };
+    
+    @Getter
+    @RequiredArgsConstructor
+    public static class TitleSuggestion {
+        private final Long studyId;
+        private final String title;
+        private final String category;
+        private final int currentParticipants;
+    }
+    
+    @Getter
+    @RequiredArgsConstructor
+    public static class Suggestions {
+        private final List<String> categories;
+        private final List<TitleSuggestion> studies;
+    }
+    
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final Set<Long> ids = new HashSet<>();
+        // 상위 MAX_SUGGESTIONS개 캐시 (null이면 다음 조회 시 다시 계산)
+        private List<Long> top = new ArrayList<>();
+    }
+    
+    private static class Entry {
+        private final String title;
+        private final String category;
+        private final int participants;
+        private final Set<String> keys;
+        
+        private Entry(String title, String category, int participants, Set<String> keys) {
+            this.title = title;
+            this.category = category;
+            this.participants = participants;
+            this.keys = keys;
+        }
+    }
+    
+    private static class CategoryStat {
+        private final String name;
+        private int studies;
+        private long participants;
+        
+        private CategoryStat(String name) {
+            this.name = name;
+        }
+    }
+    
+    @Override
+    public void index(StudySnapshot study) {
+        int participants = study.getCurrentParticipants() != null ? study.getCurrentParticipants() : 0;
+        Entry entry = new Entry(study.getTitle(), study.getCategory(), participants,
+                keysOf(NGramTokenizer.normalize(study.getTitle())));
+        
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.get(study.getId());
+            if (previous != null && previous.keys.equals(entry.keys)) {
+                // 제목이 같으면 노드 구조는 그대로 두고 순위만 갱신
+                removeCategory(previous);
+                entries.put(study.getId(), entry);
+                addCategory(entry);
+                for (String key : entry.keys) {
+                    Node node = root;
+                    for (int i = 0; i < key.length(); i++) {
+                        node = node.children.get(key.charAt(i));
+                        reorder(node, study.getId());
+                    }
+                }
+                return;
+            }
+            
+            if (previous != null) {
+                removeInternal(study.getId());
+            }
+            entries.put(study.getId(), entry);
+            addCategory(entry);
+            for (String key : entry.keys) {
+                Node node = root;
+                for (int i = 0; i < key.length(); i++) {
+                    node = node.children.computeIfAbsent(key.charAt(i), character -> new Node());
+                    if (node.ids.add(study.getId())) {
+                        reorder(node, study.getId());
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void remove(Long studyId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(studyId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            root.children.clear();
+            entries.clear();
+            categories.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void rebuildCompleted() {
+        ready = true;
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    // 접두사로 시작하는 카테고리와 스터디 제목 (참여자 수 순)
+    public Suggestions suggest(String prefix, int size) {
+        String query = NGramTokenizer.normalize(prefix);
+        int limit = Math.max(1, Math.min(size, MAX_SUGGESTIONS));
+        if (query.isEmpty()) {
+            return new Suggestions(List.of(), List.of());
+        }
+        
+        lock.readLock().lock();
+        try {
+            return new Suggestions(suggestCategories(query, limit), suggestTitles(query, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private List<String> suggestCategories(String query, int limit) {
+        // 카테고리는 수가 적어 선형 탐색으로 충분
+        return categories.values().stream()
+                .filter(stat -> NGramTokenizer.normalize(stat.name).startsWith(query))
+                .sorted(Comparator.comparingLong((CategoryStat stat) -> stat.participants).reversed()
+                        .thenComparing(stat -> stat.name))
+                .limit(limit)
+                .map(stat -> stat.name)
+                .collect(Collectors.toList());
+    }
+    
+    private List<TitleSuggestion> suggestTitles(String query, int limit) {
+        Node node = root;
+        int depth = Math.min(query.length(), MAX_KEY_LENGTH);
+        for (int i = 0; i < depth && node != null; i++) {
+            node = node.children.get(query.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        
+        List<Long> ids;
+        if (query.length() > MAX_KEY_LENGTH) {
+            // 키 길이를 넘는 접두사는 후보 전체를 원문으로 확인
+            ids = node.ids.stream()
+                    .filter(id -> NGramTokenizer.normalize(entries.get(id).title).contains(query))
+                    .sorted(ranking)
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        } else {
+            ids = topOf(node);
+        }
+        
+        return ids.stream()
+                .limit(limit)
+                .map(id -> {
+                    Entry entry = entries.get(id);
+                    return new TitleSuggestion(id, entry.title, entry.category, entry.participants);
+                })
+                .collect(Collectors.toList());
+    }
+    
+    // 읽기 락 아래에서 여러 조회가 같은 노드 캐시를 다시 계산할 수 있으므로 노드 단위로 동기화
+    private List<Long> topOf(Node node) {
+        synchronized (node) {
+            if (node.top == null) {
+                PriorityQueue<Long> heap = new PriorityQueue<>(ranking.reversed());
+                for (Long id : node.ids) {
+                    heap.offer(id);
+                    if (heap.size() > MAX_SUGGESTIONS) {
+                        heap.poll();
+                    }
+                }
+                List<Long> top = new ArrayList<>(heap);
+                top.sort(ranking);
+                node.top = top;
+            }
+            return new ArrayList<>(node.top);
+        }
+    }
+    
+    // 한 스터디의 순위가 바뀌었을 때 노드 캐시를 부분 갱신 (캐시 밖 스터디와 비교가 필요하면 무효화)
+    private void reorder(Node node, Long studyId) {
+        List<Long> top = node.top;
+        if (top == null) {
+            return;
+        }
+        int position = top.indexOf(studyId);
+        if (position >= 0) {
+            boolean wasLast = position == top.size() - 1;
+            top.remove(position);
+            boolean hasOutside = node.ids.size() > top.size() + 1;
+            if (hasOutside && (wasLast || ranking.compare(studyId, top.get(top.size() - 1)) > 0)) {
+                node.top = null;
+                return;
+            }
+            insertSorted(top, studyId);
+        } else if (top.size() < MAX_SUGGESTIONS) {
+            insertSorted(top, studyId);
+        } else if (ranking.compare(studyId, top.get(top.size() - 1)) < 0) {
+            top.remove(top.size() - 1);
+            insertSorted(top, studyId);
+        }
+    }
+    
+    private void insertSorted(List<Long> top, Long studyId) {
+        int index = 0;
+        while (index < top.size() && ranking.compare(top.get(index), studyId) < 0) {
+            index++;
+        }
+        top.add(index, studyId);
+    }
+    
+    private void removeInternal(Long studyId) {
+        Entry previous = entries.get(studyId);
+        if (previous == null) {
+            return;
+        }
+        for (String key : previous.keys) {
+            removeKey(root, key, 0, studyId);
+        }
+        removeCategory(previous);
+        entries.remove(studyId);
+    }
+    
+    // 키 경로의 노드에서 ID를 제거하고 비게 된 노드는 잘라낸다
+    private boolean removeKey(Node node, String key, int depth, Long studyId) {
+        if (depth == key.length()) {
+            return node.children.isEmpty() && node.ids.isEmpty();
+        }
+        Node child = node.children.get(key.charAt(depth));
+        if (child == null) {
+            return false;
+        }
+        if (child.ids.remove(studyId) && child.top != null && child.top.contains(studyId)) {
+            child.top = null;
+        }
+        if (removeKey(child, key, depth + 1, studyId)) {
+            node.children.remove(key.charAt(depth));
+        }
+        return node != root && node.children.isEmpty() && node.ids.isEmpty();
+    }
+    
+    private void addCategory(Entry entry) {
+        if (entry.category == null) {
+            return;
+        }
+        CategoryStat stat = categories.computeIfAbsent(entry.category, CategoryStat::new);
+        stat.studies++;
+        stat.participants += entry.participants;
+    }
+    
+    private void removeCategory(Entry entry) {
+        if (entry.category == null) {
+            return;
+        }
+        CategoryStat stat = categories.get(entry.category);
+        if (stat != null) {
+            stat.studies--;
+            stat.participants -= entry.participants;
+            if (stat.studies <= 0) {
+                categories.remove(entry.category);
+            }
+        }
+    }
+    
+    // 제목 전체 + 각 단어로 시작하는 접미사 (최대 MAX_KEY_LENGTH자)
+    private static Set<String> keysOf(String normalizedTitle) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (int i = 0; i < normalizedTitle.length(); i++) {
+            if (normalizedTitle.charAt(i) == ' ' || (i > 0 && normalizedTitle.charAt(i - 1) != ' ')) {
+                continue;
+            }
+            keys.add(normalizedTitle.substring(i, Math.min(normalizedTitle.length(), i + MAX_KEY_LENGTH)));
+        }
+        return keys;
+    }
+} 
\ No newline at end of file
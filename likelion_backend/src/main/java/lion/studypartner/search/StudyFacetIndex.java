@@ -0,0 +1,291 @@
+package lion.studypartner.search;
+
+import lion.studypartner.event.StudySnapshot;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+// 검색 화면 필터(카테고리/위치/유형/상태)용 비트맵 인덱스
+// 값마다 스터디 ID 비트맵을 두고 교집합으로 필터링과 값별 개수를 동시에 계산한다.
+// 위치처럼 값 종류가 많고 값마다 ID가 드문드문한 패싯도 있어 압축 비트맵(RoaringBitmap)을 사용한다.
+// 목록 정렬 키(생성 시각, 참여자 수)도 함께 두어 키워드 후보가 많을 때 DB 없이 정렬/페이지할 수 있게 한다.
+@Component
+public class StudyFacetIndex implements StudyIndex {
+    
+    public static final String CATEGORY = "category";
+    public static final String LOCATION = "location";
+    public static final String STUDY_TYPE = "studyType";
+    public static final String STATUS = "status";
+    
+    private static final List<String> FACETS = List.of(CATEGORY, LOCATION, STUDY_TYPE, STATUS);
+    private static final Map<String, Function<StudySnapshot, String>> EXTRACTORS = Map.of(
+            CATEGORY, StudySnapshot::getCategory,
+            LOCATION, StudySnapshot::getLocation,
+            STUDY_TYPE, StudySnapshot::getStudyType,
+            STATUS, StudySnapshot::getStatus
+    );
+    
+    // 결과 건수가 이보다 적으면 값별 비트맵 교집합 대신 결과 비트를 직접 순회해 집계
+    private static final int ITERATE_THRESHOLD = 4096;
+    
+    private final Map<String, Map<String, RoaringBitmap>> bitmaps = new HashMap<>();
+    private final Map<Long, String[]> values = new HashMap<>();
+    private final Map<Long, SortKey> sortKeys = new HashMap<>();
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+    
+    @Getter
+    @RequiredArgsConstructor
+    public static class FacetResult {
+        private final List<Long> ids; // 최신(ID 내림차순) 순
+        private final Map<String, Map<String, Integer>> counts;
+    }
+    
+    // 목록 정렬에 쓰는 스터디 값
+    @Getter
+    @RequiredArgsConstructor
+    public static class SortKey {
+        private final Long id;
+        private final LocalDateTime createdAt;
+        private final int currentParticipants;
+    }
+    
+    public StudyFacetIndex() {
+        FACETS.forEach(facet -> bitmaps.put(facet, new HashMap<>()));
+    }
+    
+    @Override
+    public void index(StudySnapshot study) {
+        int bit = toBit(study.getId());
+        String[] current = new String[FACETS.size()];
+        for (int i = 0; i < FACETS.size(); i++) {
+            current[i] = EXTRACTORS.get(FACETS.get(i)).apply(study);
+        }
+        SortKey sortKey = new SortKey(study.getId(), study.getCreatedAt(),
+                study.getCurrentParticipants() != null ? study.getCurrentParticipants() : 0);
+        
+        lock.writeLock().lock();
+        try {
+            String[] previous = values.put(study.getId(), current);
+            if (previous != null) {
+                clearBits(bit, previous);
+            }
+            for (int i = 0; i < FACETS.size(); i++) {
+                if (current[i] != null) {
+                    bitmaps.get(FACETS.get(i)).computeIfAbsent(current[i], key -> new RoaringBitmap()).add(bit);
+                }
+            }
+            sortKeys.put(study.getId(), sortKey);
+            all.add(bit);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void remove(Long studyId) {
+        lock.writeLock().lock();
+        try {
+            String[] previous = values.remove(studyId);
+            if (previous != null) {
+                int bit = toBit(studyId);
+                clearBits(bit, previous);
+                sortKeys.remove(studyId);
+                all.remove(bit);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            bitmaps.values().forEach(Map::clear);
+            values.clear();
+            sortKeys.clear();
+            all.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void rebuildCompleted() {
+        ready = true;
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    // filters: 패싯 이름 -> 선택 값 (위치는 /search 의 LIKE 조건과 같이 부분 일치, 나머지는 정확히 일치)
+    // restrictTo: 키워드 검색 후보 (null이면 제한 없음)
+    // 각 패싯의 값별 개수는 자기 자신을 제외한 나머지 필터만 적용해 계산한다.
+    public FacetResult search(Map<String, String> filters, Collection<Long> restrictTo) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap base = restrictTo != null ? RoaringBitmap.and(all, toBitmap(restrictTo)) : all.clone();
+            Map<String, RoaringBitmap> selected = selectedBitmaps(filters);
+            
+            RoaringBitmap matched = base.clone();
+            selected.values().forEach(matched::and);
+            
+            Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+            for (int i = 0; i < FACETS.size(); i++) {
+                String facet = FACETS.get(i);
+                RoaringBitmap others = base.clone();
+                selected.forEach((name, bitmap) -> {
+                    if (!name.equals(facet)) {
+                        others.and(bitmap);
+                    }
+                });
+                counts.put(facet, countValues(i, others));
+            }
+            
+            List<Long> ids = new ArrayList<>(matched.getCardinality());
+            IntIterator iterator = matched.getReverseIntIterator();
+            while (iterator.hasNext()) {
+                ids.add((long) iterator.next());
+            }
+            return new FacetResult(ids, counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // 후보 중 필터를 모두 만족하는 스터디 ID (위치 기반 검색이 DB 조회 없이 나머지 조건을 확인할 때 사용)
+    public Set<Long> filter(Map<String, String> filters, Collection<Long> candidates) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matched = RoaringBitmap.and(all, toBitmap(candidates));
+            selectedBitmaps(filters).values().forEach(matched::and);
+            
+            Set<Long> ids = new HashSet<>(matched.getCardinality() * 2);
+            IntIterator iterator = matched.getIntIterator();
+            while (iterator.hasNext()) {
+                ids.add((long) iterator.next());
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // 후보 중 필터를 모두 만족하는 스터디의 정렬 키 (순서 없음, 키워드 검색 후보가 많을 때 메모리 정렬용)
+    public List<SortKey> filterSortKeys(Map<String, String> filters, Collection<Long> candidates) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matched = RoaringBitmap.and(all, toBitmap(candidates));
+            selectedBitmaps(filters).values().forEach(matched::and);
+            
+            List<SortKey> keys = new ArrayList<>(matched.getCardinality());
+            IntIterator iterator = matched.getIntIterator();
+            while (iterator.hasNext()) {
+                keys.add(sortKeys.get((long) iterator.next()));
+            }
+            return keys;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // 선택된 패싯별 비트맵 (값이 없으면 빈 비트맵)
+    private Map<String, RoaringBitmap> selectedBitmaps(Map<String, String> filters) {
+        Map<String, RoaringBitmap> selected = new HashMap<>();
+        for (String facet : FACETS) {
+            String value = filters.get(facet);
+            if (value == null) {
+                continue;
+            }
+            Map<String, RoaringBitmap> facetBitmaps = bitmaps.get(facet);
+            if (LOCATION.equals(facet)) {
+                RoaringBitmap union = new RoaringBitmap();
+                facetBitmaps.forEach((location, bitmap) -> {
+                    if (location.contains(value)) {
+                        union.or(bitmap);
+                    }
+                });
+                selected.put(facet, union);
+            } else {
+                RoaringBitmap bitmap = facetBitmaps.get(value);
+                selected.put(facet, bitmap != null ? bitmap : new RoaringBitmap());
+            }
+        }
+        return selected;
+    }
+    
+    private Map<String, Integer> countValues(int facetIndex, RoaringBitmap scope) {
+        Map<String, Integer> counts = new HashMap<>();
+        if (scope.getCardinality() <= ITERATE_THRESHOLD) {
+            IntIterator iterator = scope.getIntIterator();
+            while (iterator.hasNext()) {
+                String value = values.get((long) iterator.next())[facetIndex];
+                if (value != null) {
+                    counts.merge(value, 1, Integer::sum);
+                }
+            }
+        } else {
+            bitmaps.get(FACETS.get(facetIndex)).forEach((value, bitmap) -> {
+                int count = RoaringBitmap.andCardinality(bitmap, scope);
+                if (count > 0) {
+                    counts.put(value, count);
+                }
+            });
+        }
+        
+        // 개수 내림차순 정렬
+        Map<String, Integer> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.<String, Integer>comparingByKey()))
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+    
+    private RoaringBitmap toBitmap(Collection<Long> ids) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        ids.forEach(id -> bitmap.add(toBit(id)));
+        return bitmap;
+    }
+    
+    private void clearBits(int bit, String[] previous) {
+        for (int i = 0; i < FACETS.size(); i++) {
+            if (previous[i] == null) {
+                continue;
+            }
+            Map<String, RoaringBitmap> facet = bitmaps.get(FACETS.get(i));
+            RoaringBitmap bitmap = facet.get(previous[i]);
+            if (bitmap != null) {
+                bitmap.remove(bit);
+                if (bitmap.isEmpty()) {
+                    facet.remove(previous[i]);
+                }
+            }
+        }
+    }
+    
+    private int toBit(Long studyId) {
+        if (studyId == null || studyId < 0 || studyId > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("비트맵 인덱스에 저장할 수 없는 스터디 ID입니다: " + studyId);
+        }
+        return studyId.intValue();
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,159 @@
+package lion.studypartner.search;
+
+import lion.studypartner.event.StudySnapshot;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 오프라인/하이브리드 스터디 위치 기반 검색용 격자 공간 인덱스
+// 위도/경도를 0.01도(약 1km) 격자로 나누고, 반경에 걸치는 격자만 조회한 뒤 실제 거리로 거른다.
+@Component
+public class StudyGeoIndex implements StudyIndex {
+    
+    public static final double DEFAULT_RADIUS_KM = 3.0;
+    public static final double MAX_RADIUS_KM = 50.0;
+    
+    private static final double CELL_DEGREES = 0.01;
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+    
+    private final Map<Long, Set<Long>> cells = new HashMap<>();
+    private final Map<Long, double[]> coordinates = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+    
+    @Getter
+    @RequiredArgsConstructor
+    public static class GeoHit {
+        private final Long studyId;
+        private final double distanceKm;
+    }
+    
+    @Override
+    public void index(StudySnapshot study) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(study.getId());
+            if (study.getLatitude() == null || study.getLongitude() == null) {
+                return;
+            }
+            double[] point = {study.getLatitude(), study.getLongitude()};
+            coordinates.put(study.getId(), point);
+            cells.computeIfAbsent(cellKey(cellOf(point[0]), cellOf(point[1])), key -> new HashSet<>()).add(study.getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void remove(Long studyId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(studyId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            cells.clear();
+            coordinates.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void rebuildCompleted() {
+        ready = true;
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    // 반경 내 스터디 (가까운 순)
+    public List<GeoHit> findWithin(double latitude, double longitude, double radiusKm) {
+        // 경도 1도의 거리는 극에 가까울수록 짧아지므로 범위 내 가장 고위도 기준으로 계산
+        double latitudeDelta = radiusKm / KM_PER_DEGREE;
+        double farthestLatitude = Math.min(90.0, Math.abs(latitude) + latitudeDelta);
+        double longitudeDelta = radiusKm / (KM_PER_DEGREE * Math.max(0.01, Math.cos(Math.toRadians(farthestLatitude))));
+        
+        int minLatitudeCell = cellOf(latitude - latitudeDelta);
+        int maxLatitudeCell = cellOf(latitude + latitudeDelta);
+        int minLongitudeCell = cellOf(longitude - longitudeDelta);
+        int maxLongitudeCell = cellOf(longitude + longitudeDelta);
+        
+        List<GeoHit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int latitudeCell = minLatitudeCell; latitudeCell <= maxLatitudeCell; latitudeCell++) {
+                for (int longitudeCell = minLongitudeCell; longitudeCell <= maxLongitudeCell; longitudeCell++) {
+                    Set<Long> ids = cells.get(cellKey(latitudeCell, longitudeCell));
+                    if (ids == null) {
+                        continue;
+                    }
+                    for (Long id : ids) {
+                        double[] point = coordinates.get(id);
+                        double distance = distanceKm(latitude, longitude, point[0], point[1]);
+                        if (distance <= radiusKm) {
+                            hits.add(new GeoHit(id, distance));
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        
+        hits.sort(Comparator.comparingDouble(GeoHit::getDistanceKm));
+        return hits;
+    }
+    
+    // 하버사인 거리 (km)
+    public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double latitudeDistance = Math.toRadians(latitude2 - latitude1);
+        double longitudeDistance = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(latitudeDistance / 2) * Math.sin(latitudeDistance / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(longitudeDistance / 2) * Math.sin(longitudeDistance / 2);
+        return EARTH_RADIUS_KM * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+    
+    private void removeInternal(Long studyId) {
+        double[] previous = coordinates.remove(studyId);
+        if (previous == null) {
+            return;
+        }
+        long key = cellKey(cellOf(previous[0]), cellOf(previous[1]));
+        Set<Long> ids = cells.get(key);
+        if (ids != null) {
+            ids.remove(studyId);
+            if (ids.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+    
+    private static int cellOf(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+    
+    private static long cellKey(int latitudeCell, int longitudeCell) {
+        return ((long) latitudeCell << 32) | (longitudeCell & 0xffffffffL);
+    }
+} 
\ No newline at end of file
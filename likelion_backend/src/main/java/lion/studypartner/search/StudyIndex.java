@@ -0,0 +1,20 @@
+package lion.studypartner.search;
+
+import lion.studypartner.event.StudySnapshot;
+
+// 스터디 변경 이벤트로 갱신되는 인메모리 인덱스 공통 인터페이스
+public interface StudyIndex {
+    
+    // 스터디 추가 또는 갱신
+    void index(StudySnapshot study);
+    
+    // 스터디 제거
+    void remove(Long studyId);
+    
+    // 전체 재구성 전 초기화
+    void clear();
+    
+    // 전체 재구성 완료 알림
+    default void rebuildCompleted() {
+    }
+} 
\ No newline at end of file
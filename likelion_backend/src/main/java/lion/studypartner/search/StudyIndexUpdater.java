@@ -0,0 +1,74 @@
+package lion.studypartner.search;
+
+import lion.studypartner.entity.Study;
+import lion.studypartner.event.StudyChangedEvent;
+import lion.studypartner.event.StudySnapshot;
+import lion.studypartner.repository.StudyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+// 스터디 인메모리 인덱스 관리자
+// 기동 시 DB에서 전체 재구성하고, 이후에는 커밋된 변경 이벤트만 반영한다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StudyIndexUpdater {
+    
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    
+    private final StudyRepository studyRepository;
+    private final List<StudyIndex> indexes;
+    
+    // 초기 데이터 생성(CommandLineRunner) 이후 전체 재구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildAll() {
+        long startedAt = System.currentTimeMillis();
+        indexes.forEach(StudyIndex::clear);
+        
+        long lastId = 0L;
+        int total = 0;
+        while (true) {
+            List<Study> batch = studyRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            for (Study study : batch) {
+                StudySnapshot snapshot = StudySnapshot.from(study);
+                indexes.forEach(index -> index.index(snapshot));
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+            total += batch.size();
+        }
+        
+        indexes.forEach(StudyIndex::rebuildCompleted);
+        log.info("스터디 인덱스 재구성 완료: {}건, {}ms", total, System.currentTimeMillis() - startedAt);
+    }
+    
+    // 롤백된 변경이 인덱스에 남지 않도록 커밋 이후에만 반영 (검색 캐시 무효화보다 먼저 실행)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStudyChanged(StudyChangedEvent event) {
+        for (StudyIndex index : indexes) {
+            try {
+                if (event.isDeleted()) {
+                    index.remove(event.getStudyId());
+                } else {
+                    index.index(event.getStudy());
+                }
+            } catch (Exception e) {
+                // 인덱스 갱신 실패는 메인 로직에 영향을 주지 않음
+                log.warn("스터디 인덱스 갱신 실패: studyId={}, {}", event.getStudyId(), e.getMessage());
+            }
+        }
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,158 @@
+package lion.studypartner.search;
+
+import lion.studypartner.event.StudySnapshot;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 참여자 수 기준 인기 스터디 리더보드 (전체 + 카테고리별)
+// 참여/탈퇴 이벤트마다 정렬 집합을 O(log n)으로 갱신하고, 상위 목록은 불변 스냅샷으로 두어 조회 시 락 없이 반환한다.
+@Component
+public class StudyLeaderboard implements StudyIndex {
+    
+    public static final int MAX_SIZE = 50;
+    
+    private static final String GLOBAL = "";
+    
+    // 참여자 수 내림차순, 같으면 최신(ID 내림차순) 우선
+    private static final Comparator<Ranked> RANKING = Comparator
+            .comparingInt((Ranked ranked) -> ranked.participants).reversed()
+            .thenComparing((Ranked ranked) -> ranked.studyId, Comparator.reverseOrder());
+    
+    private final Map<String, Board> boards = new ConcurrentHashMap<>();
+    private final Map<Long, Ranked> rankedById = new HashMap<>();
+    private volatile boolean ready = false;
+    
+    private static class Ranked {
+        private final Long studyId;
+        private final String category;
+        private final int participants;
+        
+        private Ranked(Long studyId, String category, int participants) {
+            this.studyId = studyId;
+            this.category = category;
+            this.participants = participants;
+        }
+    }
+    
+    private static class Board {
+        private final TreeSet<Ranked> ranking = new TreeSet<>(RANKING);
+        private volatile List<Ranked> top = List.of();
+    }
+    
+    @Override
+    public synchronized void index(StudySnapshot study) {
+        int participants = study.getCurrentParticipants() != null ? study.getCurrentParticipants() : 0;
+        Ranked current = new Ranked(study.getId(), study.getCategory(), participants);
+        Ranked previous = rankedById.put(study.getId(), current);
+        if (previous != null && previous.participants == current.participants
+                && Objects.equals(previous.category, current.category)) {
+            return;
+        }
+        
+        if (previous != null) {
+            removeFrom(GLOBAL, previous);
+            if (previous.category != null) {
+                removeFrom(previous.category, previous);
+            }
+        }
+        addTo(GLOBAL, current);
+        if (current.category != null) {
+            addTo(current.category, current);
+        }
+    }
+    
+    @Override
+    public synchronized void remove(Long studyId) {
+        Ranked previous = rankedById.remove(studyId);
+        if (previous == null) {
+            return;
+        }
+        removeFrom(GLOBAL, previous);
+        if (previous.category != null) {
+            removeFrom(previous.category, previous);
+        }
+    }
+    
+    @Override
+    public synchronized void clear() {
+        ready = false;
+        boards.clear();
+        rankedById.clear();
+    }
+    
+    @Override
+    public void rebuildCompleted() {
+        ready = true;
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    // 상위 스터디 ID (category가 null이면 전체)
+    public List<Long> top(String category, int size) {
+        Board board = boards.get(category != null ? category : GLOBAL);
+        if (board == null) {
+            return List.of();
+        }
+        List<Ranked> top = board.top;
+        List<Long> ids = new ArrayList<>(Math.min(size, top.size()));
+        for (int i = 0; i < top.size() && i < size; i++) {
+            ids.add(top.get(i).studyId);
+        }
+        return ids;
+    }
+    
+    private void addTo(String scope, Ranked current) {
+        Board board = boards.computeIfAbsent(scope, key -> new Board());
+        board.ranking.add(current);
+        List<Ranked> top = board.top;
+        // 상위 목록에 영향을 줄 때만 스냅샷 재생성
+        if (top.size() < MAX_SIZE || containsStudy(top, current.studyId)
+                || RANKING.compare(current, top.get(top.size() - 1)) < 0) {
+            refresh(board);
+        }
+    }
+    
+    private void removeFrom(String scope, Ranked previous) {
+        Board board = boards.get(scope);
+        if (board == null) {
+            return;
+        }
+        board.ranking.remove(previous);
+        if (board.ranking.isEmpty()) {
+            boards.remove(scope);
+            return;
+        }
+        if (containsStudy(board.top, previous.studyId)) {
+            refresh(board);
+        }
+    }
+    
+    private void refresh(Board board) {
+        List<Ranked> top = new ArrayList<>(MAX_SIZE);
+        Iterator<Ranked> iterator = board.ranking.iterator();
+        while (iterator.hasNext() && top.size() < MAX_SIZE) {
+            top.add(iterator.next());
+        }
+        board.top = List.copyOf(top);
+    }
+    
+    private boolean containsStudy(List<Ranked> top, Long studyId) {
+        for (Ranked ranked : top) {
+            if (ranked.studyId.equals(studyId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,239 @@
+package lion.studypartner.search;
+
+import lion.studypartner.entity.StudyPost;
+import lion.studypartner.event.StudyPostChangedEvent;
+import lion.studypartner.repository.StudyPostRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 게시글 제목/본문 BM25 랭킹 검색 엔진
+// 필드별 길이 정규화 후 가중 합산하는 BM25F 방식으로 제목 매칭에 더 높은 점수를 준다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StudyPostSearchEngine {
+    
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double TITLE_WEIGHT = 2.0;
+    private static final double CONTENT_WEIGHT = 1.0;
+    
+    private static final int TITLE = 0;
+    private static final int CONTENT = 1;
+    
+    private final StudyPostRepository studyPostRepository;
+    
+    // 토큰 -> (게시글 ID -> [제목 빈도, 본문 빈도])
+    private final Map<String, Map<Long, int[]>> postings = new HashMap<>();
+    private final Map<Long, IndexedPost> posts = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalTitleLength = 0;
+    private long totalContentLength = 0;
+    private volatile boolean ready = false;
+    
+    @Getter
+    @RequiredArgsConstructor
+    public static class ScoredPost {
+        private final Long postId;
+        private final double score;
+    }
+    
+    private static class IndexedPost {
+        private final Long studyId;
+        private final Map<String, Integer> titleTerms;
+        private final Map<String, Integer> contentTerms;
+        private final int titleLength;
+        private final int contentLength;
+        
+        private IndexedPost(Long studyId, Map<String, Integer> titleTerms, Map<String, Integer> contentTerms) {
+            this.studyId = studyId;
+            this.titleTerms = titleTerms;
+            this.contentTerms = contentTerms;
+            this.titleLength = titleTerms.values().stream().mapToInt(Integer::intValue).sum();
+            this.contentLength = contentTerms.values().stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+    
+    // 기동 시 활성 게시글 전체 색인
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        clear();
+        
+        long lastId = 0L;
+        while (true) {
+            List<StudyPost> batch = studyPostRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                    "active", lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            for (StudyPost post : batch) {
+                index(post.getId(), post.getStudy().getId(), post.getTitle(), post.getContent());
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+        
+        ready = true;
+        log.info("게시글 검색 인덱스 재구성 완료: {}건, {}ms", size(), System.currentTimeMillis() - startedAt);
+    }
+    
+    // 커밋된 게시글 변경만 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(StudyPostChangedEvent event) {
+        if (event.isActive()) {
+            index(event.getPostId(), event.getStudyId(), event.getTitle(), event.getContent());
+        } else {
+            remove(event.getPostId());
+        }
+    }
+    
+    public void index(Long postId, Long studyId, String title, String content) {
+        IndexedPost post = new IndexedPost(
+                studyId,
+                NGramTokenizer.termFrequencies(NGramTokenizer.normalize(title)),
+                NGramTokenizer.termFrequencies(NGramTokenizer.normalize(content)));
+        
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+            posts.put(postId, post);
+            totalTitleLength += post.titleLength;
+            totalContentLength += post.contentLength;
+            post.titleTerms.forEach((term, tf) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>())
+                            .computeIfAbsent(postId, key -> new int[2])[TITLE] = tf);
+            post.contentTerms.forEach((term, tf) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>())
+                            .computeIfAbsent(postId, key -> new int[2])[CONTENT] = tf);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return posts.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // BM25 점수 내림차순 검색 결과 (studyId가 null이면 전체 스터디 대상)
+    public List<ScoredPost> search(String keyword, Long studyId) {
+        Set<String> queryTerms = NGramTokenizer.termFrequencies(NGramTokenizer.normalize(keyword)).keySet();
+        List<ScoredPost> results = new ArrayList<>();
+        if (queryTerms.isEmpty()) {
+            return results;
+        }
+        
+        lock.readLock().lock();
+        try {
+            int documentCount = posts.size();
+            if (documentCount == 0) {
+                return results;
+            }
+            double averageTitleLength = Math.max(1.0, (double) totalTitleLength / documentCount);
+            double averageContentLength = Math.max(1.0, (double) totalContentLength / documentCount);
+            
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : queryTerms) {
+                Map<Long, int[]> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                int documentFrequency = posting.size();
+                double idf = Math.log(1.0 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                
+                for (Map.Entry<Long, int[]> entry : posting.entrySet()) {
+                    IndexedPost post = posts.get(entry.getKey());
+                    if (studyId != null && !studyId.equals(post.studyId)) {
+                        continue;
+                    }
+                    int[] tf = entry.getValue();
+                    double weightedTf =
+                            TITLE_WEIGHT * tf[TITLE] / (1 - B + B * post.titleLength / averageTitleLength)
+                            + CONTENT_WEIGHT * tf[CONTENT] / (1 - B + B * post.contentLength / averageContentLength);
+                    double termScore = idf * weightedTf / (K1 + weightedTf);
+                    scores.merge(entry.getKey(), termScore, Double::sum);
+                }
+            }
+            
+            scores.forEach((postId, score) -> results.add(new ScoredPost(postId, score)));
+        } finally {
+            lock.readLock().unlock();
+        }
+        
+        // 점수 내림차순, 동점이면 최신 게시글 우선
+        results.sort(Comparator.comparingDouble(ScoredPost::getScore).reversed()
+                .thenComparing(ScoredPost::getPostId, Comparator.reverseOrder()));
+        return results;
+    }
+    
+    private void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            postings.clear();
+            posts.clear();
+            totalTitleLength = 0;
+            totalContentLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private void removeInternal(Long postId) {
+        IndexedPost previous = posts.remove(postId);
+        if (previous == null) {
+            return;
+        }
+        totalTitleLength -= previous.titleLength;
+        totalContentLength -= previous.contentLength;
+        removePostings(postId, previous.titleTerms.keySet());
+        removePostings(postId, previous.contentTerms.keySet());
+    }
+    
+    private void removePostings(Long postId, Set<String> terms) {
+        for (String term : terms) {
+            Map<Long, int[]> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(postId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,209 @@
+package lion.studypartner.search;
+
+import lion.studypartner.dto.StudyDto;
+import lion.studypartner.event.StudyChangedEvent;
+import lion.studypartner.event.StudySnapshot;
+import lion.studypartner.event.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 스터디 검색 결과 LRU 캐시
+// 변경된 스터디의 변경 전/후 값이 검색 조건에 걸리는 항목만 무효화한다.
+@Component
+public class StudySearchCache {
+    
+    private final int maxEntries;
+    private final Map<List<Object>, CachedPage> entries;
+    
+    // 무효화가 일어날 때마다 증가 (조회 중 변경이 커밋되면 오래된 결과를 저장하지 않도록)
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    
+    // 목록/검색 응답 ETag용 버전 (무효화를 마친 뒤에 올려서 새 ETag가 무효화 전 캐시 결과와 함께 나가지 않게 함)
+    // 캐시와 함께 재시작 시 초기화되므로 이전 기동의 ETag와 겹치지 않게 기동 시각을 함께 쓴다.
+    private final long startedAt = System.currentTimeMillis();
+    private final AtomicLong listVersion = new AtomicLong();
+    
+    private static class CachedPage {
+        private final StudyDto.SearchRequest criteria;
+        private final Page<StudyDto.StudyListResponse> page;
+        
+        private CachedPage(StudyDto.SearchRequest criteria, Page<StudyDto.StudyListResponse> page) {
+            this.criteria = criteria;
+            this.page = page;
+        }
+    }
+    
+    public StudySearchCache(@Value("${study.search-cache.max-entries:500}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, CachedPage> eldest) {
+                if (size() > StudySearchCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+    
+    public Page<StudyDto.StudyListResponse> getOrLoad(StudyDto.SearchRequest request, Pageable pageable,
+                                                      Supplier<Page<StudyDto.StudyListResponse>> loader) {
+        StudyDto.SearchRequest criteria = normalize(request);
+        List<Object> key = Arrays.asList(
+                criteria.getKeyword(), criteria.getCategory(), criteria.getLocation(),
+                criteria.getStudyType(), criteria.getStatus(),
+                criteria.getLatitude(), criteria.getLongitude(), criteria.getRadiusKm(),
+                pageable.isPaged() ? pageable.getPageNumber() : -1,
+                pageable.isPaged() ? pageable.getPageSize() : -1,
+                pageable.getSort().toString());
+        
+        synchronized (this) {
+            CachedPage cached = entries.get(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached.page;
+            }
+        }
+        
+        misses.incrementAndGet();
+        long loadedAt = generation.get();
+        Page<StudyDto.StudyListResponse> page = loader.get();
+        synchronized (this) {
+            if (generation.get() == loadedAt) {
+                entries.put(key, new CachedPage(criteria, page));
+            }
+        }
+        return page;
+    }
+    
+    // 커밋된 변경만 반영 (변경 전 또는 후 값이 조건에 맞으면 결과 집합/순서가 달라질 수 있음)
+    // 인덱스 갱신 이후에 무효화해야 무효화 직후 조회가 이전 인덱스 결과를 다시 캐시하지 않는다.
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStudyChanged(StudyChangedEvent event) {
+        generation.incrementAndGet();
+        synchronized (this) {
+            Iterator<CachedPage> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                CachedPage cached = iterator.next();
+                if (matches(cached.criteria, event.getPrevious()) || matches(cached.criteria, event.getStudy())) {
+                    iterator.remove();
+                    invalidations.incrementAndGet();
+                }
+            }
+            listVersion.incrementAndGet();
+        }
+    }
+    
+    // 리더 프로필이 바뀌면 그 리더의 스터디가 담긴 페이지만 무효화 (검색 조건/순서는 그대로)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserChanged(UserChangedEvent event) {
+        generation.incrementAndGet();
+        synchronized (this) {
+            Iterator<CachedPage> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                CachedPage cached = iterator.next();
+                if (cached.page.getContent().stream().anyMatch(study ->
+                        study.getLeader() != null && event.getUserId().equals(study.getLeader().getId()))) {
+                    iterator.remove();
+                    invalidations.incrementAndGet();
+                }
+            }
+            listVersion.incrementAndGet();
+        }
+    }
+    
+    public long getStartedAt() {
+        return startedAt;
+    }
+    
+    public long listVersion() {
+        return listVersion.get();
+    }
+    
+    public Map<String, Object> stats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (this) {
+            stats.put("size", entries.size());
+        }
+        stats.put("maxEntries", maxEntries);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount));
+        stats.put("evictions", evictions.get());
+        stats.put("invalidations", invalidations.get());
+        return stats;
+    }
+    
+    // 검색 조건을 메모리에서 평가 (대소문자/공백 차이는 넓게 일치로 보아 무효화 누락이 없도록)
+    private boolean matches(StudyDto.SearchRequest criteria, StudySnapshot study) {
+        if (study == null) {
+            return false;
+        }
+        if (criteria.getCategory() != null && !criteria.getCategory().equals(study.getCategory())) {
+            return false;
+        }
+        if (criteria.getStudyType() != null && !criteria.getStudyType().equals(study.getStudyType())) {
+            return false;
+        }
+        if (criteria.getStatus() != null && !criteria.getStatus().equals(study.getStatus())) {
+            return false;
+        }
+        if (criteria.getLocation() != null && !contains(study.getLocation(), criteria.getLocation())) {
+            return false;
+        }
+        if (criteria.getKeyword() != null
+                && !contains(study.getTitle(), criteria.getKeyword())
+                && !contains(study.getDescription(), criteria.getKeyword())) {
+            return false;
+        }
+        if (criteria.getLatitude() != null && criteria.getLongitude() != null) {
+            if (study.getLatitude() == null || study.getLongitude() == null) {
+                return false;
+            }
+            double radiusKm = criteria.getRadiusKm() != null ? criteria.getRadiusKm() : StudyGeoIndex.DEFAULT_RADIUS_KM;
+            return StudyGeoIndex.distanceKm(criteria.getLatitude(), criteria.getLongitude(),
+                    study.getLatitude(), study.getLongitude()) <= radiusKm;
+        }
+        return true;
+    }
+    
+    private boolean contains(String text, String value) {
+        return NGramTokenizer.normalize(text).contains(NGramTokenizer.normalize(value));
+    }
+    
+    // StudyService와 같은 기준으로 빈 키워드는 조건 없음으로 처리
+    private StudyDto.SearchRequest normalize(StudyDto.SearchRequest request) {
+        return StudyDto.SearchRequest.builder()
+                .keyword(request.getKeyword() != null && !request.getKeyword().isBlank() ? request.getKeyword() : null)
+                .category(request.getCategory())
+                .location(request.getLocation())
+                .studyType(request.getStudyType())
+                .status(request.getStatus())
+                .latitude(request.getLatitude())
+                .longitude(request.getLongitude())
+                .radiusKm(request.getRadiusKm())
+                .build();
+    }
+} 
\ No newline at end of file
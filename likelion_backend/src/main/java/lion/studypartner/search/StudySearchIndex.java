@@ -0,0 +1,141 @@
+package lion.studypartner.search;
+
+import lion.studypartner.event.StudySnapshot;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 스터디 제목/설명 키워드 검색용 n-gram 역색인
+// LIKE %keyword% 와 같은 부분 문자열 의미를 유지하면서 전체 테이블 스캔을 피한다.
+@Component
+public class StudySearchIndex implements StudyIndex {
+    
+    // 제목과 설명 사이 구분자 (검색어가 두 필드에 걸쳐 매칭되지 않도록)
+    private static final char FIELD_SEPARATOR = '\u0001';
+    
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, String> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+    
+    @Override
+    public void index(StudySnapshot study) {
+        String document = NGramTokenizer.normalize(study.getTitle())
+                + FIELD_SEPARATOR
+                + NGramTokenizer.normalize(study.getDescription());
+        
+        lock.writeLock().lock();
+        try {
+            String previous = documents.put(study.getId(), document);
+            if (previous != null) {
+                if (previous.equals(document)) {
+                    return;
+                }
+                removePostings(study.getId(), previous);
+            }
+            for (String gram : NGramTokenizer.indexGrams(document)) {
+                postings.computeIfAbsent(gram, key -> new HashSet<>()).add(study.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void remove(Long studyId) {
+        lock.writeLock().lock();
+        try {
+            String previous = documents.remove(studyId);
+            if (previous != null) {
+                removePostings(studyId, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void rebuildCompleted() {
+        ready = true;
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    // 키워드가 제목 또는 설명에 포함된 스터디 ID 목록 (대소문자 무시)
+    public Set<Long> search(String keyword) {
+        String query = NGramTokenizer.normalize(keyword);
+        Set<String> grams = NGramTokenizer.queryGrams(query);
+        if (grams.isEmpty()) {
+            return Collections.emptySet();
+        }
+        
+        lock.readLock().lock();
+        try {
+            // 가장 짧은 포스팅 리스트부터 교집합
+            List<Set<Long>> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                Set<Long> posting = postings.get(gram);
+                if (posting == null) {
+                    return Collections.emptySet();
+                }
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+            
+            Set<Long> candidates = new HashSet<>(lists.get(0));
+            for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+                candidates.retainAll(lists.get(i));
+            }
+            
+            // n-gram 교집합은 후보일 뿐이므로 원문 포함 여부로 최종 확인
+            candidates.removeIf(id -> !documents.get(id).contains(query));
+            return candidates;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private void removePostings(Long studyId, String document) {
+        for (String gram : NGramTokenizer.indexGrams(document)) {
+            Set<Long> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(studyId);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+} 
\ No newline at end of file
@@ -155,6 +155,11 @@ public class DataInitializationService implements CommandLineRunner {
         study.setStudyType(studyType);
         study.setDescription(description);
         study.setLocation(studyType.equals("온라인") ? "온라인" : "서울시 강남구");
+        if (!studyType.equals("온라인")) {
+            // 강남역 좌표
+            study.setLatitude(37.4979);
+            study.setLongitude(127.0276);
+        }
         study.setMeetingLink(meetingLink);
         study.setContactInfo(contactInfo);
         study.setMaxParticipants(studyType.equals("오프라인") ? 6 : 10);
@@ -172,7 +177,7 @@ public class DataInitializationService implements CommandLineRunner {
         StudyMember member = new StudyMember();
         member.setStudy(savedStudy);
         member.setUser(leader);
-        member.setRole("LEADER");
+        member.setRole("leader");
         member.setStatus("active");
         member.setJoinedAt(LocalDateTime.now());
         studyMemberRepository.save(member);
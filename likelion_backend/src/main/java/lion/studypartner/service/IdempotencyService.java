@@ -0,0 +1,169 @@
+package lion.studypartner.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Idempotency-Key 헤더로 재시도된 POST 요청에 처음 응답을 그대로 돌려줌
+// (사용자, 요청 구분, 키)마다 한 번만 실행하고, 처리 중인 같은 키의 요청은 먼저 온 요청의 결과를 기다린다.
+// 성공(2xx) 응답만 보관하고, 같은 키로 본문이 다른 요청이 오면 재사용하지 않고 거절한다.
+@Service
+public class IdempotencyService {
+    
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Map<List<Object>, StoredResponse> entries;
+    
+    private final AtomicLong replays = new AtomicLong();
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    
+    private static class StoredResponse {
+        private final CompletableFuture<ResponseEntity<?>> response = new CompletableFuture<>();
+        private final String fingerprint;
+        private final long expiresAt;
+        
+        private StoredResponse(String fingerprint, long expiresAt) {
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+    }
+    
+    // 같은 키를 다른 요청 본문에 재사용한 경우 (컨트롤러에서 422로 응답)
+    public static class KeyReusedException extends RuntimeException {
+        public KeyReusedException(String message) {
+            super(message);
+        }
+    }
+    
+    public IdempotencyService(ObjectMapper objectMapper,
+                              @Value("${study.idempotency.max-entries:10000}") int maxEntries,
+                              @Value("${study.idempotency.ttl-ms:86400000}") long ttlMillis) {
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, StoredResponse> eldest) {
+                if (size() > IdempotencyService.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+    
+    // 키가 없으면 그대로 실행, 있으면 저장된 응답을 재사용
+    // 2xx가 아닌 응답이나 예외는 저장하지 않아 잠금 대기 시간 초과 같은 일시적 실패 뒤에도 다시 시도할 수 있다.
+    @SuppressWarnings("unchecked")
+    public <T> ResponseEntity<T> execute(Long userId, String scope, String idempotencyKey, Object payload,
+                                         Supplier<ResponseEntity<T>> action) {
+        if (userId == null || idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        
+        List<Object> key = Arrays.asList(userId, scope, idempotencyKey);
+        String fingerprint = fingerprint(payload);
+        long now = System.currentTimeMillis();
+        StoredResponse stored;
+        boolean owner = false;
+        synchronized (this) {
+            removeExpired(now);
+            stored = entries.get(key);
+            if (stored == null) {
+                stored = new StoredResponse(fingerprint, now + ttlMillis);
+                entries.put(key, stored);
+                owner = true;
+            } else if (!Objects.equals(stored.fingerprint, fingerprint)) {
+                throw new KeyReusedException("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+            }
+        }
+        
+        if (!owner) {
+            // 처리 중이면 먼저 온 요청이 끝날 때까지 대기
+            ResponseEntity<T> response;
+            try {
+                response = (ResponseEntity<T>) stored.response.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+            replays.incrementAndGet();
+            return ResponseEntity.status(response.getStatusCode())
+                    .headers(response.getHeaders())
+                    .header(REPLAYED_HEADER, "true")
+                    .body(response.getBody());
+        }
+        
+        executions.incrementAndGet();
+        ResponseEntity<T> response;
+        try {
+            response = action.get();
+        } catch (Throwable e) {
+            // Error까지 포함해 대기 중인 요청이 영원히 기다리지 않도록 항상 완료시킴
+            forget(key, stored);
+            stored.response.completeExceptionally(e);
+            throw e;
+        }
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            // 이미 대기 중인 같은 키 요청에는 이 응답을 전달하고, 이후 재시도는 새로 실행
+            forget(key, stored);
+        }
+        stored.response.complete(response);
+        return response;
+    }
+    
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (this) {
+            stats.put("size", entries.size());
+        }
+        stats.put("maxEntries", maxEntries);
+        stats.put("executions", executions.get());
+        stats.put("replays", replays.get());
+        stats.put("evictions", evictions.get());
+        return stats;
+    }
+    
+    // TTL이 모두 같아 삽입 순서가 곧 만료 순서이므로 앞에서부터만 확인
+    private void removeExpired(long now) {
+        Iterator<StoredResponse> iterator = entries.values().iterator();
+        while (iterator.hasNext() && iterator.next().expiresAt <= now) {
+            iterator.remove();
+        }
+    }
+    
+    // 요청 본문 지문 (본문이 없는 요청은 null)
+    private String fingerprint(Object payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("요청 본문을 처리할 수 없습니다.", e);
+        }
+    }
+    
+    private synchronized void forget(List<Object> key, StoredResponse stored) {
+        entries.remove(key, stored);
+    }
+} 
\ No newline at end of file
@@ -1,35 +1,89 @@
 package lion.studypartner.service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import lion.studypartner.config.UserPrincipal;
+import lion.studypartner.entity.User;
+import lion.studypartner.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
 import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 @Service
+@RequiredArgsConstructor
 public class JwtService {
     
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+    public static final String DEFAULT_ROLE = "USER";
+    
+    // 인증을 거부하는 계정 상태 (status는 재학 상태 값으로도 쓰이므로 차단 값만 확인)
+    private static final Set<String> BLOCKED_STATUSES = Set.of("inactive", "banned", "deleted");
+    
+    private final UserRepository userRepository;
+    
     @Value("${jwt.secret}")
     private String secret;
     
     @Value("${jwt.expiration}")
     private Long expiration;
     
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    @Value("${jwt.verified-cache.max-entries:10000}")
+    private int verifiedCacheMaxEntries;
+    
+    // 서명 키와 파서는 시작 시 한 번만 생성 (JwtParser는 불변이라 스레드 간 공유 가능)
+    private SecretKey signingKey;
+    private JwtParser parser;
+    
+    // 서명 검증을 마친 토큰 -> 인증 사용자 (토큰 만료 시각까지만 유효, LRU)
+    private Map<String, VerifiedToken> verifiedTokens;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    
+    private static class VerifiedToken {
+        private final UserPrincipal principal;
+        private final long expiresAt;
+        
+        private VerifiedToken(UserPrincipal principal, long expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
+    
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > verifiedCacheMaxEntries;
+            }
+        };
     }
     
-    public String generateToken(String email) {
+    // 사용자 ID와 역할을 클레임으로 넣어 요청마다 사용자를 다시 조회하지 않도록 함
+    public String generateToken(User user) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, email);
+        claims.put(USER_ID_CLAIM, user.getId());
+        claims.put(ROLE_CLAIM, DEFAULT_ROLE);
+        return createToken(claims, user.getEmail());
     }
     
     private String createToken(Map<String, Object> claims, String subject) {
@@ -38,13 +92,13 @@ public class JwtService {
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
     
     public Boolean validateToken(String token, String email) {
-        final String username = extractEmail(token);
-        return (username.equals(email) && !isTokenExpired(token));
+        UserPrincipal principal = authenticate(token);
+        return principal != null && principal.getEmail().equals(email);
     }
     
     public String extractEmail(String token) {
@@ -57,8 +111,89 @@ public class JwtService {
     }
     
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        UserPrincipal principal = authenticate(token);
+        return principal != null && principal.getEmail().equals(userDetails.getUsername());
+    }
+    
+    // 토큰 검증 후 인증 사용자 반환 (유효하지 않으면 null)
+    // 이미 검증한 토큰은 만료 전까지 캐시에서 바로 반환하므로 서명 검증은 토큰당 한 번만 일어난다.
+    // 다만 사용자 존재/상태는 요청마다 확인해 삭제되거나 차단된 사용자가 토큰 만료까지 인증되지 않게 한다.
+    public UserPrincipal authenticate(String token) {
+        long now = System.currentTimeMillis();
+        UserPrincipal cached = null;
+        synchronized (verifiedTokens) {
+            VerifiedToken verified = verifiedTokens.get(token);
+            if (verified != null) {
+                if (verified.expiresAt > now) {
+                    cached = verified.principal;
+                } else {
+                    verifiedTokens.remove(token);
+                }
+            }
+        }
+        if (cached != null) {
+            hits.incrementAndGet();
+            if (isAllowed(cached.getId())) {
+                return cached;
+            }
+            synchronized (verifiedTokens) {
+                verifiedTokens.remove(token);
+            }
+            return null;
+        }
+        
+        misses.incrementAndGet();
+        Claims claims;
+        try {
+            claims = extractAllClaims(token);
+        } catch (Exception e) {
+            return null;
+        }
+        if (claims.getSubject() == null || claims.getExpiration() == null) {
+            return null;
+        }
+        Long userId = userIdOf(claims);
+        if (userId == null || !isAllowed(userId)) {
+            return null;
+        }
+        String role = claims.get(ROLE_CLAIM, String.class);
+        UserPrincipal principal = new UserPrincipal(userId, claims.getSubject(), role != null ? role : DEFAULT_ROLE);
+        synchronized (verifiedTokens) {
+            verifiedTokens.put(token, new VerifiedToken(principal, claims.getExpiration().getTime()));
+        }
+        return principal;
+    }
+    
+    // 사용자 ID 클레임 도입 전에 발급된 토큰은 이메일(subject)로 한 번 조회 (결과는 토큰 캐시에 남음)
+    private Long userIdOf(Claims claims) {
+        Object userId = claims.get(USER_ID_CLAIM);
+        if (userId instanceof Number) {
+            return ((Number) userId).longValue();
+        }
+        return userRepository.findByEmail(claims.getSubject())
+                .map(User::getId)
+                .orElse(null);
+    }
+    
+    // 사용자가 남아 있고 차단 상태가 아닌지 (User는 2차 캐시 대상이라 대부분 SQL 없이 확인)
+    private boolean isAllowed(Long userId) {
+        return userRepository.findById(userId)
+                .map(user -> !BLOCKED_STATUSES.contains(user.getStatus()))
+                .orElse(false);
+    }
+    
+    public Map<String, Object> verifiedCacheStats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (verifiedTokens) {
+            stats.put("size", verifiedTokens.size());
+        }
+        stats.put("maxEntries", verifiedCacheMaxEntries);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount));
+        return stats;
     }
     
     public Date extractExpiration(String token) {
@@ -71,14 +206,6 @@ public class JwtService {
     }
     
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-    
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return parser.parseClaimsJws(token).getBody();
     }
 } 
\ No newline at end of file
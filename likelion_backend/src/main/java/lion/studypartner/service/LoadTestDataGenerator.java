@@ -0,0 +1,366 @@
+package lion.studypartner.service;
+
+import lion.studypartner.entity.Notification;
+import lion.studypartner.entity.Study;
+import lion.studypartner.entity.StudyMember;
+import lion.studypartner.entity.StudyPost;
+import lion.studypartner.entity.User;
+import lion.studypartner.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// 부하/규모 테스트용 대용량 데이터 생성 (--spring.profiles.active=loadtest)
+// 같은 seed면 같은 데이터가 나오도록 청크마다 (seed, 종류, 청크 번호)로 난수를 만들고, 청크는 병렬로 배치 저장한다.
+// 이벤트를 거치지 않고 저장하므로 study_cards와 검색 인덱스는 기동 완료 시 전체 재구성으로 채워진다.
+@Service
+@Profile("loadtest")
+@RequiredArgsConstructor
+@Slf4j
+public class LoadTestDataGenerator implements CommandLineRunner {
+    
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권"};
+    private static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "지우", "하준", "서윤", "예준", "하은", "시우", "지민",
+            "주원", "수아", "지호", "지유", "건우", "채원", "우진", "다은", "현우", "유진"};
+    private static final String[] OCCUPATIONS = {"대학생", "대학원생", "취업준비생", "개발자", "디자이너", "회사원", "공무원", "프리랜서"};
+    private static final String[] EDUCATION_LEVELS = {"고등학교 졸업", "대학교 재학", "대학교 졸업", "대학원 졸업"};
+    private static final String[] PROVIDERS = {"google", "kakao"};
+    
+    private static final String[] CATEGORIES = {"프로그래밍", "어학", "자격증", "디자인", "기타"};
+    private static final String[][] TOPICS = {
+            {"Java", "Spring Boot", "React", "Python", "알고리즘", "Node.js", "Flutter", "데이터 분석", "머신러닝", "SQL"},
+            {"토익", "토플", "영어 회화", "일본어 JLPT", "중국어 HSK", "오픽", "스페인어", "비즈니스 영어"},
+            {"정보처리기사", "컴활 1급", "한국사능력검정", "공인회계사", "SQLD", "전기기사", "빅데이터분석기사"},
+            {"UI/UX", "Figma", "포토샵", "일러스트", "브랜딩", "모션 그래픽", "포트폴리오"},
+            {"독서 토론", "재테크", "글쓰기", "창업 준비", "영화 제작", "면접 준비", "아침 습관"}
+    };
+    private static final String[] TITLE_SUFFIXES = {"스터디", "기초부터 실전까지", "함께 끝내기", "집중반", "주말반", "마스터", "입문"};
+    private static final String[] DESCRIPTION_SENTENCES = {
+            "매주 정해진 분량을 공부하고 모여서 서로 설명해 봅니다.",
+            "처음 시작하는 분들도 부담 없이 참여할 수 있어요.",
+            "모의고사와 오답노트로 실력을 점검합니다.",
+            "실제 프로젝트를 진행하며 포트폴리오를 만들어요.",
+            "결석 없이 끝까지 함께할 분을 찾습니다.",
+            "온라인으로 진도를 공유하고 한 달에 한 번 오프라인으로 모입니다.",
+            "목표 점수를 달성할 때까지 서로 응원해요!",
+            "스터디가 끝나면 회고를 작성하고 다음 목표를 정합니다."
+    };
+    private static final String[] STUDY_TYPES = {"온라인", "오프라인", "하이브리드"};
+    private static final String[] LOCATIONS = {"서울시 강남구", "서울시 마포구", "서울시 관악구", "서울시 성동구", "경기도 성남시", "부산시 해운대구", "대전시 유성구"};
+    private static final double[][] COORDINATES = {
+            {37.4979, 127.0276}, {37.5563, 126.9236}, {37.4812, 126.9527}, {37.5445, 127.0560},
+            {37.3947, 127.1112}, {35.1631, 129.1635}, {36.3622, 127.3562}
+    };
+    private static final int[] MAX_PARTICIPANTS = {4, 6, 8, 10, 12, 20, 30};
+    private static final String[] POST_TYPES = {"general", "general", "question", "resource", "notice"};
+    private static final String[] POST_TITLES = {"이번 주 진도 공유합니다", "질문 있어요", "자료 올립니다", "다음 모임 공지", "오늘 모임 후기",
+            "과제 제출했습니다", "참고하면 좋은 강의", "일정 조율 부탁드려요"};
+    private static final String[] POST_SENTENCES = {
+            "오늘 정리한 내용 공유드려요.", "이 부분이 잘 이해가 안 되는데 설명해 주실 분 있나요?",
+            "다음 주까지 각자 3장까지 읽어 오기로 해요.", "도움이 될 만한 자료를 찾아서 올립니다.",
+            "모임 장소가 변경되었으니 확인 부탁드립니다.", "다들 고생 많으셨습니다!"
+    };
+    private static final String[][] NOTIFICATION_TEMPLATES = {
+            {"새로운 멤버 참여", "study_join", "새로운 멤버가 스터디에 참여했습니다."},
+            {"멤버 탈퇴", "study_leave", "멤버가 스터디에서 탈퇴했습니다."},
+            {"스터디 정보 업데이트", "study_update", "참여 중인 스터디 정보가 업데이트되었습니다."},
+            {"스터디 참여 확정", "study_waitlist_promoted", "대기 중이던 스터디에 자리가 나서 참여되었습니다."}
+    };
+    
+    // 종류별 난수 구분값
+    private static final long USER_SALT = 1;
+    private static final long STUDY_SALT = 2;
+    private static final long MEMBER_SALT = 3;
+    private static final long POST_SALT = 4;
+    private static final long NOTIFICATION_SALT = 5;
+    
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${study.loadtest.seed:42}")
+    private long seed;
+    
+    @Value("${study.loadtest.users:1000000}")
+    private int userCount;
+    
+    @Value("${study.loadtest.studies:200000}")
+    private int studyCount;
+    
+    // 스터디 인원 1명당 평균 게시글 수
+    @Value("${study.loadtest.posts-per-member:1}")
+    private int postsPerMember;
+    
+    @Value("${study.loadtest.notifications:2000000}")
+    private int notificationCount;
+    
+    @Value("${study.loadtest.threads:8}")
+    private int threads;
+    
+    // 한 트랜잭션에서 처리할 행 수 (flush/clear는 JDBC 배치 크기마다)
+    @Value("${study.loadtest.chunk-size:2000}")
+    private int chunkSize;
+    
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+    
+    private LocalDateTime baseTime;
+    private long[] userIds;
+    private long[] studyIds;
+    private int[] leaderIndexes;
+    private int[] memberCounts;
+    private int[] memberOffsets;
+    private int[] memberIndexes;
+    
+    @Override
+    public void run(String... args) throws Exception {
+        if (userRepository.count() >= userCount) {
+            log.info("부하 테스트 데이터가 이미 있어 생성을 건너뜁니다.");
+            return;
+        }
+        
+        log.info("부하 테스트 데이터 생성 시작: seed={}, 사용자 {}명, 스터디 {}개, 알림 {}건, 스레드 {}개",
+                seed, userCount, studyCount, notificationCount, threads);
+        long startedAt = System.currentTimeMillis();
+        baseTime = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS);
+        userIds = new long[userCount];
+        studyIds = new long[studyCount];
+        leaderIndexes = new int[studyCount];
+        memberCounts = new int[studyCount];
+        
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            runPhase(executor, "사용자", userCount, USER_SALT, this::writeUser);
+            runPhase(executor, "스터디", studyCount, STUDY_SALT, this::writeStudy);
+            
+            // 스터디별 멤버 위치 (멤버 수 누적합) - 게시글 작성자를 멤버 중에서 고르기 위해 보관
+            memberOffsets = new int[studyCount + 1];
+            for (int i = 0; i < studyCount; i++) {
+                memberOffsets[i + 1] = memberOffsets[i] + memberCounts[i];
+            }
+            memberIndexes = new int[memberOffsets[studyCount]];
+            
+            runPhase(executor, "멤버십", studyCount, MEMBER_SALT, this::writeMembers);
+            runPhase(executor, "게시글", studyCount, POST_SALT, this::writePosts);
+            runPhase(executor, "알림", notificationCount, NOTIFICATION_SALT, this::writeNotification);
+        } finally {
+            executor.shutdownNow();
+            memberIndexes = null;
+        }
+        
+        log.info("부하 테스트 데이터 생성 완료: 멤버십 {}건, {}ms",
+                memberOffsets[studyCount] + studyCount, System.currentTimeMillis() - startedAt);
+    }
+    
+    @FunctionalInterface
+    private interface RowWriter {
+        // index번째 항목을 저장하고 저장한 행 수를 반환
+        int write(int index, SplittableRandom random);
+    }
+    
+    // 청크 단위로 나눠 병렬 저장 (청크마다 별도 트랜잭션, 2차 캐시는 거치지 않음)
+    private void runPhase(ExecutorService executor, String label, int count, long salt, RowWriter writer)
+            throws InterruptedException, ExecutionException {
+        long startedAt = System.currentTimeMillis();
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int from = 0; from < count; from += chunkSize) {
+            int chunkFrom = from;
+            int chunkTo = Math.min(count, from + chunkSize);
+            futures.add(executor.submit(() -> transactionTemplate.execute(status -> {
+                entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+                SplittableRandom random = randomFor(salt, chunkFrom);
+                int rows = 0;
+                int pending = 0;
+                for (int i = chunkFrom; i < chunkTo; i++) {
+                    int written = writer.write(i, random);
+                    rows += written;
+                    pending += written;
+                    if (pending >= batchSize) {
+                        entityManager.flush();
+                        entityManager.clear();
+                        pending = 0;
+                    }
+                }
+                entityManager.flush();
+                entityManager.clear();
+                return rows;
+            })));
+        }
+        
+        long rows = 0;
+        for (Future<Integer> future : futures) {
+            rows += future.get();
+        }
+        long elapsed = Math.max(1, System.currentTimeMillis() - startedAt);
+        log.info("{} {}건 저장: {}ms ({}건/초)", label, rows, elapsed, rows * 1000 / elapsed);
+    }
+    
+    private SplittableRandom randomFor(long salt, int chunkFrom) {
+        return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + salt * 0xBF58476D1CE4E5B9L + chunkFrom);
+    }
+    
+    // 앞쪽 인덱스에 몰리는 분포 (skew가 클수록 소수 항목에 집중)
+    private static int skewedIndex(SplittableRandom random, int size, double skew) {
+        return Math.min(size - 1, (int) (size * Math.pow(random.nextDouble(), skew)));
+    }
+    
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+    
+    private int writeUser(int index, SplittableRandom random) {
+        String provider = pick(random, PROVIDERS);
+        User user = new User();
+        user.setEmail("user" + index + "@loadtest.studypartner.com");
+        user.setName(pick(random, SURNAMES) + pick(random, GIVEN_NAMES));
+        user.setNickname(pick(random, GIVEN_NAMES) + index);
+        user.setPassword("");
+        user.setProvider(provider);
+        user.setProviderId(provider + "_loadtest_" + index);
+        user.setBirthDate(baseTime.minusYears(random.nextInt(18, 45)).minusDays(random.nextInt(365)));
+        user.setOccupation(pick(random, OCCUPATIONS));
+        user.setEducationLevel(pick(random, EDUCATION_LEVELS));
+        user.setStatus("active");
+        entityManager.persist(user);
+        userIds[index] = user.getId();
+        return 1;
+    }
+    
+    private int writeStudy(int index, SplittableRandom random) {
+        // 인기 카테고리/주제에 몰리도록 편향 선택
+        int category = skewedIndex(random, CATEGORIES.length, 1.5);
+        String topic = TOPICS[category][skewedIndex(random, TOPICS[category].length, 1.8)];
+        String studyType = pick(random, STUDY_TYPES);
+        int maxParticipants = MAX_PARTICIPANTS[random.nextInt(MAX_PARTICIPANTS.length)];
+        // 대부분은 소수 인원, 일부 인기 스터디만 정원에 가까움
+        int members = Math.min(userCount - 1, (int) ((maxParticipants - 1) * Math.pow(random.nextDouble(), 3)));
+        int leader = skewedIndex(random, userCount, 2.5);
+        int startOffsetDays = random.nextInt(-60, 60);
+        
+        Study study = new Study();
+        study.setTitle(topic + " " + pick(random, TITLE_SUFFIXES));
+        study.setDescription(pick(random, DESCRIPTION_SENTENCES) + " " + pick(random, DESCRIPTION_SENTENCES));
+        study.setCategory(CATEGORIES[category]);
+        study.setStudyType(studyType);
+        if ("온라인".equals(studyType)) {
+            study.setLocation("온라인");
+        } else {
+            int location = skewedIndex(random, LOCATIONS.length, 2.0);
+            study.setLocation(LOCATIONS[location]);
+            // 동네 안에서 흩어지도록 약 1km 이내로 흔듦
+            study.setLatitude(COORDINATES[location][0] + (random.nextDouble() - 0.5) * 0.02);
+            study.setLongitude(COORDINATES[location][1] + (random.nextDouble() - 0.5) * 0.02);
+        }
+        study.setMaxParticipants(maxParticipants);
+        study.setCurrentParticipants(members + 1);
+        study.setStatus(startOffsetDays < -30 ? "completed" : "active");
+        study.setStartDate(baseTime.plusDays(startOffsetDays));
+        study.setEndDate(baseTime.plusDays(startOffsetDays + random.nextInt(30, 120)));
+        study.setContactInfo("study" + index + "@loadtest.studypartner.com");
+        study.setLeader(entityManager.getReference(User.class, userIds[leader]));
+        entityManager.persist(study);
+        
+        studyIds[index] = study.getId();
+        leaderIndexes[index] = leader;
+        memberCounts[index] = members;
+        return 1;
+    }
+    
+    // 리더 + 멤버 (같은 스터디에 같은 사용자가 두 번 들어가지 않도록)
+    private int writeMembers(int index, SplittableRandom random) {
+        Study study = entityManager.getReference(Study.class, studyIds[index]);
+        persistMember(study, leaderIndexes[index], "leader");
+        
+        int offset = memberOffsets[index];
+        int members = memberCounts[index];
+        for (int j = 0; j < members; j++) {
+            int user;
+            do {
+                user = skewedIndex(random, userCount, 1.5);
+            } while (user == leaderIndexes[index] || contains(memberIndexes, offset, offset + j, user));
+            memberIndexes[offset + j] = user;
+            persistMember(study, user, "member");
+        }
+        return members + 1;
+    }
+    
+    private void persistMember(Study study, int user, String role) {
+        StudyMember member = new StudyMember();
+        member.setStudy(study);
+        member.setUser(entityManager.getReference(User.class, userIds[user]));
+        member.setRole(role);
+        member.setStatus("active");
+        entityManager.persist(member);
+    }
+    
+    private static boolean contains(int[] values, int from, int to, int value) {
+        for (int i = from; i < to; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    // 인원이 많은 스터디일수록 게시글도 많음
+    private int writePosts(int index, SplittableRandom random) {
+        int members = memberCounts[index];
+        int posts = random.nextInt((members + 1) * postsPerMember * 2 + 1);
+        if (posts == 0) {
+            return 0;
+        }
+        
+        Study study = entityManager.getReference(Study.class, studyIds[index]);
+        for (int j = 0; j < posts; j++) {
+            String type = pick(random, POST_TYPES);
+            // 공지는 리더가, 나머지는 리더 포함 멤버 중 한 명이 작성
+            int author = leaderIndexes[index];
+            if (!"notice".equals(type) && members > 0 && random.nextInt(members + 1) > 0) {
+                author = memberIndexes[memberOffsets[index] + random.nextInt(members)];
+            }
+            
+            StudyPost post = new StudyPost();
+            post.setStudy(study);
+            post.setAuthor(entityManager.getReference(User.class, userIds[author]));
+            post.setType(type);
+            post.setTitle(pick(random, POST_TITLES));
+            post.setContent(pick(random, POST_SENTENCES) + "\n" + pick(random, POST_SENTENCES));
+            entityManager.persist(post);
+        }
+        return posts;
+    }
+    
+    // 활동이 많은 사용자와 인기 스터디에 알림이 몰림
+    private int writeNotification(int index, SplittableRandom random) {
+        String[] template = NOTIFICATION_TEMPLATES[random.nextInt(NOTIFICATION_TEMPLATES.length)];
+        Notification notification = new Notification();
+        notification.setUser(entityManager.getReference(User.class, userIds[skewedIndex(random, userCount, 2.0)]));
+        notification.setStudy(entityManager.getReference(Study.class, studyIds[skewedIndex(random, studyCount, 2.0)]));
+        notification.setTitle(template[0]);
+        notification.setType(template[1]);
+        notification.setMessage(template[2]);
+        if (random.nextInt(10) < 7) {
+            notification.setStatus("read");
+            notification.setReadAt(baseTime.minusDays(random.nextInt(30)));
+        }
+        entityManager.persist(notification);
+        return 1;
+    }
+} 
\ No newline at end of file
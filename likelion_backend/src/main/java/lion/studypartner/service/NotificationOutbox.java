@@ -0,0 +1,170 @@
+package lion.studypartner.service;
+
+import lion.studypartner.entity.OutboxEvent;
+import lion.studypartner.repository.OutboxEventRepository;
+import lion.studypartner.repository.StudyRepository;
+import lion.studypartner.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 알림 아웃박스
+// 참여/탈퇴 트랜잭션에는 이벤트 한 행만 기록하고, 알림 생성은 디스패처가 요청 밖에서 배치로 처리한다.
+// 이벤트마다 알림 생성과 처리 완료 표시를 한 트랜잭션으로 묶고, 실패하면 지수 백오프로 다시 시도한다 (최소 한 번 전달).
+// 그사이 스터디나 사용자가 삭제된 이벤트는 재시도해도 성공할 수 없으므로 skipped로 끝낸다.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationOutbox {
+    
+    public static final String STUDY_JOIN = "study_join";
+    public static final String STUDY_LEAVE = "study_leave";
+    public static final String STUDY_WAITLIST_PROMOTED = "study_waitlist_promoted";
+    
+    private static final long MAX_BACKOFF_SECONDS = 300;
+    
+    private final OutboxEventRepository outboxEventRepository;
+    private final StudyRepository studyRepository;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${notification.outbox.batch-size:100}")
+    private int batchSize;
+    
+    @Value("${notification.outbox.max-attempts:10}")
+    private int maxAttempts;
+    
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile LocalDateTime lastDispatchedAt;
+    
+    // 호출한 트랜잭션 안에서 이벤트 기록 (도메인 변경과 함께 커밋/롤백)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String type, Long studyId, Long userId) {
+        OutboxEvent event = new OutboxEvent();
+        event.setType(type);
+        event.setStudyId(studyId);
+        event.setUserId(userId);
+        event.setNextAttemptAt(LocalDateTime.now());
+        outboxEventRepository.save(event);
+    }
+    
+    // 처리할 이벤트가 남아 있으면 배치 단위로 계속 처리
+    @Scheduled(initialDelayString = "${notification.outbox.initial-delay-ms:1000}",
+            fixedDelayString = "${notification.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        while (true) {
+            List<Long> ids = outboxEventRepository.findDueIds(LocalDateTime.now(), PageRequest.of(0, batchSize));
+            for (Long id : ids) {
+                dispatchOne(id);
+            }
+            lastDispatchedAt = LocalDateTime.now();
+            if (ids.size() < batchSize) {
+                return;
+            }
+        }
+    }
+    
+    private void dispatchOne(Long id) {
+        try {
+            Boolean delivered = transactionTemplate.execute(status -> {
+                OutboxEvent event = outboxEventRepository.findById(id).orElse(null);
+                if (event == null || !"pending".equals(event.getStatus())) {
+                    return null;
+                }
+                if (!targetsExist(event)) {
+                    event.setStatus("skipped");
+                    event.setLastError("스터디 또는 사용자가 삭제되어 알림을 보내지 않았습니다.");
+                    event.setProcessedAt(LocalDateTime.now());
+                    return false;
+                }
+                deliver(event);
+                event.setStatus("processed");
+                event.setProcessedAt(LocalDateTime.now());
+                return true;
+            });
+            if (Boolean.TRUE.equals(delivered)) {
+                processed.incrementAndGet();
+            } else if (Boolean.FALSE.equals(delivered)) {
+                skipped.incrementAndGet();
+            }
+        } catch (Exception e) {
+            recordFailure(id, e);
+        }
+    }
+    
+    // 알림에 필요한 스터디와 사용자가 남아 있는지 (2차 캐시에서 조회되고, 알림 생성 시 같은 엔티티를 재사용)
+    private boolean targetsExist(OutboxEvent event) {
+        return studyRepository.findById(event.getStudyId()).isPresent()
+                && userRepository.findById(event.getUserId()).isPresent();
+    }
+    
+    private void deliver(OutboxEvent event) {
+        switch (event.getType()) {
+            case STUDY_JOIN:
+                notificationService.createStudyJoinNotification(event.getStudyId(), event.getUserId());
+                break;
+            case STUDY_LEAVE:
+                notificationService.createStudyLeaveNotification(event.getStudyId(), event.getUserId());
+                break;
+            case STUDY_WAITLIST_PROMOTED:
+                notificationService.createWaitlistPromotionNotification(event.getStudyId(), event.getUserId());
+                break;
+            default:
+                throw new IllegalStateException("알 수 없는 이벤트 유형입니다: " + event.getType());
+        }
+    }
+    
+    // 알림 생성이 롤백된 뒤 별도 트랜잭션에서 재시도 일정 기록 (횟수를 넘기면 failed로 남김)
+    private void recordFailure(Long id, Exception cause) {
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.findById(id).ifPresent(event -> {
+            int attempts = event.getAttempts() + 1;
+            event.setAttempts(attempts);
+            event.setLastError(truncate(cause.getMessage()));
+            if (attempts >= maxAttempts) {
+                event.setStatus("failed");
+                failed.incrementAndGet();
+                log.warn("알림 이벤트 처리 실패 (재시도 중단): id={}, type={}, error={}", id, event.getType(), cause.getMessage());
+            } else {
+                long backoffSeconds = Math.min(MAX_BACKOFF_SECONDS, 1L << Math.min(attempts, 20));
+                event.setNextAttemptAt(LocalDateTime.now().plusSeconds(backoffSeconds));
+                retried.incrementAndGet();
+                log.debug("알림 이벤트 처리 실패 ({}초 후 재시도): id={}, error={}", backoffSeconds, id, cause.getMessage());
+            }
+        }));
+    }
+    
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= 500 ? message : message.substring(0, 500);
+    }
+    
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pending", outboxEventRepository.countByStatus("pending"));
+        stats.put("failed", outboxEventRepository.countByStatus("failed"));
+        stats.put("processed", processed.get());
+        stats.put("skipped", skipped.get());
+        stats.put("retried", retried.get());
+        stats.put("gaveUp", failed.get());
+        stats.put("lastDispatchedAt", lastDispatchedAt);
+        return stats;
+    }
+} 
\ No newline at end of file
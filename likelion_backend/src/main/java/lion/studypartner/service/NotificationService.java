@@ -5,6 +5,7 @@ import lion.studypartner.entity.Notification;
 import lion.studypartner.entity.Study;
 import lion.studypartner.entity.User;
 import lion.studypartner.repository.NotificationRepository;
+import lion.studypartner.repository.StudyMemberRepository;
 import lion.studypartner.repository.StudyRepository;
 import lion.studypartner.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +14,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -24,6 +26,7 @@ public class NotificationService {
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
     private final StudyRepository studyRepository;
+    private final StudyMemberRepository studyMemberRepository;
     
     // 알림 생성
     public Notification createNotification(Long userId, String title, String message, String type, Long studyId) {
@@ -76,36 +79,59 @@ public class NotificationService {
         createNotification(study.getLeader().getId(), title, message, "study_leave", studyId);
     }
     
+    // 대기열에서 참여로 승격된 사용자에게 알림
+    public void createWaitlistPromotionNotification(Long studyId, Long userId) {
+        Study study = studyRepository.findById(studyId)
+                .orElseThrow(() -> new RuntimeException("스터디를 찾을 수 없습니다."));
+        
+        String title = "스터디 참여 확정";
+        String message = "대기 중이던 '" + study.getTitle() + "' 스터디에 자리가 나서 참여되었습니다.";
+        
+        createNotification(userId, title, message, "study_waitlist_promoted", studyId);
+    }
+    
+    // 여러 사용자에게 같은 알림을 한 번에 생성
+    // 사용자는 조회 없이 참조만 걸고, INSERT는 hibernate.jdbc.batch_size 단위로 묶어서 전송된다.
+    public int createBulkNotification(Collection<Long> userIds, String title, String message, String type, Study study) {
+        List<Notification> notifications = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            Notification notification = new Notification();
+            notification.setUser(userRepository.getReferenceById(userId));
+            notification.setTitle(title);
+            notification.setMessage(message);
+            notification.setType(type);
+            notification.setStatus("unread");
+            notification.setStudy(study);
+            notifications.add(notification);
+        }
+        notificationRepository.saveAll(notifications);
+        return notifications.size();
+    }
+    
     // 스터디 업데이트 알림 생성
-    public void createStudyUpdateNotification(Long studyId) {
+    public int createStudyUpdateNotification(Long studyId) {
         Study study = studyRepository.findById(studyId)
                 .orElseThrow(() -> new RuntimeException("스터디를 찾을 수 없습니다."));
         
-        // 모든 멤버에게 알림
-        study.getMembers().forEach(member -> {
-            if (!"leader".equals(member.getRole())) {
-                String title = "스터디 정보 업데이트";
-                String message = "'" + study.getTitle() + "' 스터디 정보가 업데이트되었습니다.";
-                
-                createNotification(member.getUser().getId(), title, message, "study_update", studyId);
-            }
-        });
+        // 리더를 제외한 활성 멤버 전체에게 알림
+        String title = "스터디 정보 업데이트";
+        String message = "'" + study.getTitle() + "' 스터디 정보가 업데이트되었습니다.";
+        
+        return createBulkNotification(studyMemberRepository.findActiveMemberUserIds(studyId),
+                title, message, "study_update", study);
     }
     
     // 스터디 취소 알림 생성
-    public void createStudyCancelNotification(Long studyId) {
+    public int createStudyCancelNotification(Long studyId) {
         Study study = studyRepository.findById(studyId)
                 .orElseThrow(() -> new RuntimeException("스터디를 찾을 수 없습니다."));
         
-        // 모든 멤버에게 알림
-        study.getMembers().forEach(member -> {
-            if (!"leader".equals(member.getRole())) {
-                String title = "스터디 취소";
-                String message = "'" + study.getTitle() + "' 스터디가 취소되었습니다.";
-                
-                createNotification(member.getUser().getId(), title, message, "study_cancel", studyId);
-            }
-        });
+        // 리더를 제외한 활성 멤버 전체에게 알림
+        String title = "스터디 취소";
+        String message = "'" + study.getTitle() + "' 스터디가 취소되었습니다.";
+        
+        return createBulkNotification(studyMemberRepository.findActiveMemberUserIds(studyId),
+                title, message, "study_cancel", study);
     }
     
     // 사용자의 알림 목록 조회
@@ -146,12 +172,6 @@ public class NotificationService {
         notificationRepository.markAllAsRead(userId);
     }
     
-    // 오래된 알림 삭제 (30일 이상)
-    public void deleteOldNotifications() {
-        LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-        notificationRepository.deleteOldNotifications(thirtyDaysAgo);
-    }
-
     public void deleteNotification(Long notificationId, Long userId) {
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new RuntimeException("알림을 찾을 수 없습니다."));
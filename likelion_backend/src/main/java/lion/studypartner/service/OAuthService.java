@@ -40,7 +40,7 @@ public class OAuthService {
             }
             
             // JWT 토큰 생성
-            String token = jwtService.generateToken(user.getEmail());
+            String token = jwtService.generateToken(user);
             
             // 응답 생성
             UserDto.UserInfo userInfo = new UserDto.UserInfo(
@@ -82,7 +82,7 @@ public class OAuthService {
             }
             
             // JWT 토큰 생성
-            String token = jwtService.generateToken(user.getEmail());
+            String token = jwtService.generateToken(user);
             
             // 응답 생성
             UserDto.UserInfo userInfo = new UserDto.UserInfo(
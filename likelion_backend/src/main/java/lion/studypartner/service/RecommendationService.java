@@ -0,0 +1,291 @@
+package lion.studypartner.service;
+
+import lion.studypartner.repository.StudyMemberRepository;
+import lion.studypartner.repository.StudyRepository;
+import lion.studypartner.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+// "나를 위한 스터디" 추천
+// 함께 참여한 멤버 기반 스터디 간 유사도와 직업/학력 프로필 유사도를 주기적으로 미리 계산해
+// 사용자별 상위 N개 스터디 ID만 메모리에 두고, 요청 시에는 조회만 한다.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RecommendationService {
+    
+    public static final int MAX_RECOMMENDATIONS = 20;
+    
+    private static final int BATCH_SIZE = 1000;
+    // 스터디별로 유지할 유사 스터디 수
+    private static final int NEIGHBORS_PER_STUDY = 30;
+    // 프로필 그룹별로 유지할 후보 스터디 수
+    private static final int PROFILE_CANDIDATES = 50;
+    // 최종 점수에서 프로필 유사도 가중치 (나머지는 공동 참여 유사도 합)
+    private static final double PROFILE_WEIGHT = 0.3;
+    private static final List<String> JOINABLE_STATUSES = List.of("active", "recruiting");
+    
+    // 점수 내림차순, 같으면 최신(ID 내림차순) 우선
+    private static final Comparator<Scored> RANKING = Comparator
+            .comparingDouble((Scored scored) -> scored.score).reversed()
+            .thenComparing((Scored scored) -> scored.studyId, Comparator.reverseOrder());
+    
+    private final StudyRepository studyRepository;
+    private final StudyMemberRepository studyMemberRepository;
+    private final UserRepository userRepository;
+    
+    // 계산이 끝나면 통째로 교체 (조회 중인 요청은 이전 결과를 그대로 사용)
+    private volatile Map<Long, long[]> recommendations = Map.of();
+    private volatile LocalDateTime refreshedAt;
+    
+    private static class Profile {
+        private final String occupation;
+        private final String educationLevel;
+        
+        private Profile(String occupation, String educationLevel) {
+            this.occupation = occupation;
+            this.educationLevel = educationLevel;
+        }
+        
+        private String key() {
+            return occupation + "|" + educationLevel;
+        }
+    }
+    
+    private static class Scored {
+        private final Long studyId;
+        private final double score;
+        
+        private Scored(Long studyId, double score) {
+            this.studyId = studyId;
+            this.score = score;
+        }
+    }
+    
+    public boolean isReady() {
+        return refreshedAt != null;
+    }
+    
+    public LocalDateTime getRefreshedAt() {
+        return refreshedAt;
+    }
+    
+    // 사용자별 추천 스터디 ID (계산 결과가 없으면 빈 목록)
+    public List<Long> recommend(Long userId, int size) {
+        long[] ids = recommendations.get(userId);
+        if (ids == null) {
+            return List.of();
+        }
+        List<Long> result = new ArrayList<>(Math.min(size, ids.length));
+        for (int i = 0; i < ids.length && i < size; i++) {
+            result.add(ids[i]);
+        }
+        return result;
+    }
+    
+    @Scheduled(initialDelayString = "${study.recommendation.initial-delay-ms:10000}",
+            fixedDelayString = "${study.recommendation.refresh-interval-ms:600000}")
+    public void refresh() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            Set<Long> candidates = new HashSet<>(studyRepository.findJoinableIds(JOINABLE_STATUSES, LocalDateTime.now()));
+            Map<Long, Set<Long>> membersByStudy = new HashMap<>();
+            Map<Long, Set<Long>> studiesByUser = new HashMap<>();
+            loadMemberships(membersByStudy, studiesByUser);
+            Map<Long, Profile> profiles = loadProfiles();
+            
+            Map<Long, long[]> computed = compute(candidates, membersByStudy, studiesByUser, profiles);
+            recommendations = computed;
+            refreshedAt = LocalDateTime.now();
+            log.info("추천 목록 갱신 완료: 사용자 {}명, 후보 스터디 {}건, {}ms",
+                    computed.size(), candidates.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 실패하면 이전 결과를 계속 사용
+            log.warn("추천 목록 갱신 실패: {}", e.getMessage());
+        }
+    }
+    
+    private void loadMemberships(Map<Long, Set<Long>> membersByStudy, Map<Long, Set<Long>> studiesByUser) {
+        long lastId = 0L;
+        while (true) {
+            List<Object[]> rows = studyMemberRepository.findActiveMembershipRows(lastId, PageRequest.of(0, BATCH_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+            for (Object[] row : rows) {
+                Long studyId = (Long) row[1];
+                Long userId = (Long) row[2];
+                membersByStudy.computeIfAbsent(studyId, key -> new HashSet<>()).add(userId);
+                studiesByUser.computeIfAbsent(userId, key -> new HashSet<>()).add(studyId);
+            }
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+    }
+    
+    private Map<Long, Profile> loadProfiles() {
+        Map<Long, Profile> profiles = new HashMap<>();
+        long lastId = 0L;
+        while (true) {
+            List<Object[]> rows = userRepository.findProfileRows(lastId, PageRequest.of(0, BATCH_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+            for (Object[] row : rows) {
+                profiles.put((Long) row[0], new Profile((String) row[1], (String) row[2]));
+            }
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+        return profiles;
+    }
+    
+    private Map<Long, long[]> compute(Set<Long> candidates, Map<Long, Set<Long>> membersByStudy,
+                                      Map<Long, Set<Long>> studiesByUser, Map<Long, Profile> profiles) {
+        Map<Long, List<Scored>> neighbors = computeNeighbors(candidates, membersByStudy, studiesByUser);
+        
+        // 스터디별 멤버 직업/학력 분포
+        Map<Long, Map<String, Integer>> occupations = new HashMap<>();
+        Map<Long, Map<String, Integer>> educationLevels = new HashMap<>();
+        for (Long studyId : candidates) {
+            Set<Long> members = membersByStudy.getOrDefault(studyId, Collections.emptySet());
+            for (Long userId : members) {
+                Profile profile = profiles.get(userId);
+                if (profile == null) {
+                    continue;
+                }
+                if (profile.occupation != null) {
+                    occupations.computeIfAbsent(studyId, key -> new HashMap<>()).merge(profile.occupation, 1, Integer::sum);
+                }
+                if (profile.educationLevel != null) {
+                    educationLevels.computeIfAbsent(studyId, key -> new HashMap<>()).merge(profile.educationLevel, 1, Integer::sum);
+                }
+            }
+        }
+        
+        // 같은 직업/학력 조합은 후보가 같으므로 그룹별로 한 번만 계산
+        Map<String, List<Long>> profileCandidates = new HashMap<>();
+        Map<Long, long[]> result = new HashMap<>();
+        for (Map.Entry<Long, Profile> user : profiles.entrySet()) {
+            Long userId = user.getKey();
+            Profile profile = user.getValue();
+            Set<Long> joined = studiesByUser.getOrDefault(userId, Collections.emptySet());
+            
+            Map<Long, Double> scores = new HashMap<>();
+            for (Long studyId : joined) {
+                for (Scored neighbor : neighbors.getOrDefault(studyId, List.of())) {
+                    if (!joined.contains(neighbor.studyId)) {
+                        scores.merge(neighbor.studyId, neighbor.score, Double::sum);
+                    }
+                }
+            }
+            if (profile.occupation != null || profile.educationLevel != null) {
+                List<Long> byProfile = profileCandidates.computeIfAbsent(profile.key(),
+                        key -> topByProfile(profile, candidates, membersByStudy, occupations, educationLevels));
+                for (Long studyId : byProfile) {
+                    if (!joined.contains(studyId)) {
+                        scores.putIfAbsent(studyId, 0.0);
+                    }
+                }
+            }
+            if (scores.isEmpty()) {
+                continue;
+            }
+            
+            PriorityQueue<Scored> heap = new PriorityQueue<>(RANKING.reversed());
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                double affinity = affinity(profile, entry.getKey(), membersByStudy, occupations, educationLevels);
+                heap.offer(new Scored(entry.getKey(), entry.getValue() + PROFILE_WEIGHT * affinity));
+                if (heap.size() > MAX_RECOMMENDATIONS) {
+                    heap.poll();
+                }
+            }
+            List<Scored> top = new ArrayList<>(heap);
+            top.sort(RANKING);
+            long[] ids = new long[top.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = top.get(i).studyId;
+            }
+            result.put(userId, ids);
+        }
+        return result;
+    }
+    
+    // 공동 참여 코사인 유사도: |Ui ∩ Uj| / sqrt(|Ui| * |Uj|), 스터디별 상위 NEIGHBORS_PER_STUDY개만 유지
+    private Map<Long, List<Scored>> computeNeighbors(Set<Long> candidates, Map<Long, Set<Long>> membersByStudy,
+                                                     Map<Long, Set<Long>> studiesByUser) {
+        Map<Long, List<Scored>> neighbors = new HashMap<>();
+        for (Map.Entry<Long, Set<Long>> study : membersByStudy.entrySet()) {
+            Long studyId = study.getKey();
+            Map<Long, Integer> coMembers = new HashMap<>();
+            for (Long userId : study.getValue()) {
+                for (Long otherId : studiesByUser.get(userId)) {
+                    if (!otherId.equals(studyId) && candidates.contains(otherId)) {
+                        coMembers.merge(otherId, 1, Integer::sum);
+                    }
+                }
+            }
+            if (coMembers.isEmpty()) {
+                continue;
+            }
+            
+            PriorityQueue<Scored> heap = new PriorityQueue<>(RANKING.reversed());
+            for (Map.Entry<Long, Integer> entry : coMembers.entrySet()) {
+                double similarity = entry.getValue()
+                        / Math.sqrt((double) study.getValue().size() * membersByStudy.get(entry.getKey()).size());
+                heap.offer(new Scored(entry.getKey(), similarity));
+                if (heap.size() > NEIGHBORS_PER_STUDY) {
+                    heap.poll();
+                }
+            }
+            neighbors.put(studyId, new ArrayList<>(heap));
+        }
+        return neighbors;
+    }
+    
+    private List<Long> topByProfile(Profile profile, Set<Long> candidates, Map<Long, Set<Long>> membersByStudy,
+                                    Map<Long, Map<String, Integer>> occupations,
+                                    Map<Long, Map<String, Integer>> educationLevels) {
+        PriorityQueue<Scored> heap = new PriorityQueue<>(RANKING.reversed());
+        for (Long studyId : candidates) {
+            double affinity = affinity(profile, studyId, membersByStudy, occupations, educationLevels);
+            if (affinity <= 0) {
+                continue;
+            }
+            heap.offer(new Scored(studyId, affinity));
+            if (heap.size() > PROFILE_CANDIDATES) {
+                heap.poll();
+            }
+        }
+        List<Long> ids = new ArrayList<>(heap.size());
+        heap.forEach(scored -> ids.add(scored.studyId));
+        return ids;
+    }
+    
+    // 스터디 멤버 중 같은 직업 비율과 같은 학력 비율의 평균 (0 ~ 1)
+    private double affinity(Profile profile, Long studyId, Map<Long, Set<Long>> membersByStudy,
+                            Map<Long, Map<String, Integer>> occupations,
+                            Map<Long, Map<String, Integer>> educationLevels) {
+        Set<Long> members = membersByStudy.get(studyId);
+        if (members == null || members.isEmpty()) {
+            return 0.0;
+        }
+        int sameOccupation = profile.occupation != null
+                ? occupations.getOrDefault(studyId, Map.of()).getOrDefault(profile.occupation, 0) : 0;
+        int sameEducation = profile.educationLevel != null
+                ? educationLevels.getOrDefault(studyId, Map.of()).getOrDefault(profile.educationLevel, 0) : 0;
+        return 0.5 * sameOccupation / members.size() + 0.5 * sameEducation / members.size();
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,150 @@
+package lion.studypartner.service;
+
+import lion.studypartner.repository.NotificationRepository;
+import lion.studypartner.repository.OutboxEventRepository;
+import lion.studypartner.repository.StudyPostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+// 보관 기간이 지난 데이터 정리 (오래된 알림, 삭제 처리된 게시글, 처리 완료된 아웃박스 이벤트)
+// 한 번에 지우지 않고 청크마다 짧은 트랜잭션으로 삭제하고 청크 사이에 쉬어서 잠금을 오래 잡지 않는다.
+@Service
+@Slf4j
+public class RetentionService {
+    
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final List<Target> targets;
+    
+    // 정리 대상별 설정과 최근 실행 결과
+    private static class Target {
+        private final String name;
+        private final int retentionDays;
+        private final BiFunction<LocalDateTime, Pageable, List<Long>> findIds;
+        private final Consumer<List<Long>> deleteIds;
+        
+        private final AtomicLong totalRemoved = new AtomicLong();
+        private volatile long lastRemoved;
+        private volatile long lastDurationMs;
+        private volatile LocalDateTime lastRunAt;
+        private volatile String lastError;
+        
+        private Target(String name, int retentionDays, BiFunction<LocalDateTime, Pageable, List<Long>> findIds,
+                       Consumer<List<Long>> deleteIds) {
+            this.name = name;
+            this.retentionDays = retentionDays;
+            this.findIds = findIds;
+            this.deleteIds = deleteIds;
+        }
+    }
+    
+    public RetentionService(NotificationRepository notificationRepository,
+                            StudyPostRepository studyPostRepository,
+                            OutboxEventRepository outboxEventRepository,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${retention.chunk-size:500}") int chunkSize,
+                            @Value("${retention.pause-ms:200}") long pauseMillis,
+                            @Value("${retention.notification-days:30}") int notificationDays,
+                            @Value("${retention.deleted-post-days:30}") int deletedPostDays,
+                            @Value("${retention.outbox-event-days:7}") int outboxEventDays) {
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.targets = List.of(
+                new Target("notifications", notificationDays,
+                        notificationRepository::findIdsCreatedBefore, notificationRepository::deleteAllByIdInBatch),
+                new Target("deletedPosts", deletedPostDays,
+                        studyPostRepository::findDeletedIdsBefore, studyPostRepository::deleteAllByIdInBatch),
+                new Target("outboxEvents", outboxEventDays,
+                        outboxEventRepository::findProcessedIdsBefore, outboxEventRepository::deleteAllByIdInBatch));
+    }
+    
+    @Scheduled(initialDelayString = "${retention.initial-delay-ms:60000}",
+            fixedDelayString = "${retention.interval-ms:3600000}")
+    public void purge() {
+        for (Target target : targets) {
+            // 보관 기간이 0 이하이면 정리하지 않음
+            if (target.retentionDays > 0) {
+                purge(target);
+            }
+        }
+    }
+    
+    private void purge(Target target) {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(target.retentionDays);
+        long startedAt = System.currentTimeMillis();
+        long removed = 0;
+        String error = null;
+        try {
+            while (true) {
+                Integer deleted = transactionTemplate.execute(status -> {
+                    List<Long> ids = target.findIds.apply(cutoff, PageRequest.of(0, chunkSize));
+                    if (!ids.isEmpty()) {
+                        target.deleteIds.accept(ids);
+                    }
+                    return ids.size();
+                });
+                removed += deleted;
+                if (deleted < chunkSize || !pause()) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            // 이미 지운 청크는 유지되고 다음 주기에 이어서 정리
+            error = e.getMessage();
+            log.warn("보관 기간 정리 실패: {} ({}건 삭제 후 중단), error={}", target.name, removed, e.getMessage());
+        }
+        
+        target.totalRemoved.addAndGet(removed);
+        target.lastRemoved = removed;
+        target.lastDurationMs = System.currentTimeMillis() - startedAt;
+        target.lastRunAt = LocalDateTime.now();
+        target.lastError = error;
+        if (removed > 0) {
+            log.info("보관 기간 정리 완료: {} {}건, {}ms", target.name, removed, target.lastDurationMs);
+        }
+    }
+    
+    // 청크 사이 대기 (인터럽트되면 이번 주기 중단)
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (Target target : targets) {
+            Map<String, Object> targetStats = new LinkedHashMap<>();
+            targetStats.put("retentionDays", target.retentionDays);
+            targetStats.put("lastRemoved", target.lastRemoved);
+            targetStats.put("lastDurationMs", target.lastDurationMs);
+            targetStats.put("lastRunAt", target.lastRunAt);
+            targetStats.put("lastError", target.lastError);
+            targetStats.put("totalRemoved", target.totalRemoved.get());
+            stats.put(target.name, targetStats);
+        }
+        return stats;
+    }
+} 
\ No newline at end of file
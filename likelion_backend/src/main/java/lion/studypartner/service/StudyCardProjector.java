@@ -0,0 +1,87 @@
+package lion.studypartner.service;
+
+import lion.studypartner.entity.StudyCard;
+import lion.studypartner.entity.User;
+import lion.studypartner.event.StudyChangedEvent;
+import lion.studypartner.event.StudySnapshot;
+import lion.studypartner.event.UserChangedEvent;
+import lion.studypartner.repository.StudyCardRepository;
+import lion.studypartner.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// study_cards 읽기 모델 갱신
+// 인메모리 인덱스와 달리 커밋 직전에 같은 트랜잭션에서 반영해 스터디와 카드가 함께 커밋/롤백되도록 한다.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StudyCardProjector {
+    
+    private final StudyCardRepository studyCardRepository;
+    private final UserRepository userRepository;
+    
+    // 초기 데이터 생성(CommandLineRunner) 이후 전체 재구성
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildAll() {
+        long startedAt = System.currentTimeMillis();
+        studyCardRepository.deleteAllInBatch();
+        int total = studyCardRepository.insertAllFromStudies();
+        log.info("스터디 카드 재구성 완료: {}건, {}ms", total, System.currentTimeMillis() - startedAt);
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onStudyChanged(StudyChangedEvent event) {
+        if (event.isDeleted()) {
+            studyCardRepository.deleteByStudyId(event.getStudyId());
+            return;
+        }
+        
+        StudySnapshot study = event.getStudy();
+        StudyCard card = studyCardRepository.findById(study.getId()).orElse(null);
+        if (card == null) {
+            card = new StudyCard();
+            card.setId(study.getId());
+            applyLeader(card, study.getLeaderId());
+        }
+        card.setTitle(study.getTitle());
+        card.setCategory(study.getCategory());
+        card.setLocation(study.getLocation());
+        card.setMaxParticipants(study.getMaxParticipants());
+        card.setCurrentParticipants(study.getCurrentParticipants());
+        card.setStatus(study.getStatus());
+        card.setStartDate(study.getStartDate());
+        card.setEndDate(study.getEndDate());
+        card.setStudyType(study.getStudyType());
+        card.setLatitude(study.getLatitude());
+        card.setLongitude(study.getLongitude());
+        card.setCreatedAt(study.getCreatedAt());
+        studyCardRepository.save(card);
+    }
+    
+    // 리더 정보는 카드 생성 시 복사되므로 프로필 변경은 같은 트랜잭션에서 일괄 반영
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onUserChanged(UserChangedEvent event) {
+        studyCardRepository.updateLeader(event.getUserId(), event.getEmail(), event.getName(), event.getNickname(),
+                event.getBirthDate(), event.getOccupation(), event.getEducationLevel(), event.getStatus());
+    }
+    
+    private void applyLeader(StudyCard card, Long leaderId) {
+        User leader = userRepository.findById(leaderId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        card.setLeaderId(leader.getId());
+        card.setLeaderEmail(leader.getEmail());
+        card.setLeaderName(leader.getName());
+        card.setLeaderNickname(leader.getNickname());
+        card.setLeaderBirthDate(leader.getBirthDate());
+        card.setLeaderOccupation(leader.getOccupation());
+        card.setLeaderEducationLevel(leader.getEducationLevel());
+        card.setLeaderStatus(leader.getStatus());
+    }
+} 
\ No newline at end of file
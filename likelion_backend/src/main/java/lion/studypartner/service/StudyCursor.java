@@ -0,0 +1,74 @@
+package lion.studypartner.service;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 키셋 페이지네이션 커서 (정렬 키 + ID를 불투명한 문자열로 인코딩)
+@Getter
+public class StudyCursor {
+    
+    public enum Order {
+        LATEST, POPULAR;
+        
+        public static Order from(String value) {
+            if (value == null || value.isBlank() || "latest".equalsIgnoreCase(value)) {
+                return LATEST;
+            }
+            if ("popular".equalsIgnoreCase(value)) {
+                return POPULAR;
+            }
+            throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + value);
+        }
+    }
+    
+    private final Order order;
+    private final LocalDateTime createdAt; // LATEST
+    private final Integer currentParticipants; // POPULAR
+    private final Long id;
+    
+    private StudyCursor(Order order, LocalDateTime createdAt, Integer currentParticipants, Long id) {
+        this.order = order;
+        this.createdAt = createdAt;
+        this.currentParticipants = currentParticipants;
+        this.id = id;
+    }
+    
+    public static StudyCursor latest(LocalDateTime createdAt, Long id) {
+        return new StudyCursor(Order.LATEST, createdAt, null, id);
+    }
+    
+    public static StudyCursor popular(Integer currentParticipants, Long id) {
+        return new StudyCursor(Order.POPULAR, null, currentParticipants, id);
+    }
+    
+    public String encode() {
+        String key = order == Order.LATEST ? createdAt.toString() : String.valueOf(currentParticipants);
+        String raw = order.name() + "|" + key + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    // 빈 문자열이면 첫 페이지 (null 반환)
+    public static StudyCursor decode(String cursor, Order expectedOrder) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            Order order = Order.valueOf(parts[0]);
+            if (parts.length != 3 || order != expectedOrder) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            Long id = Long.parseLong(parts[2]);
+            return order == Order.LATEST
+                    ? latest(LocalDateTime.parse(parts[1]), id)
+                    : popular(Integer.parseInt(parts[1]), id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+} 
\ No newline at end of file
@@ -5,15 +5,25 @@ import lion.studypartner.dto.UserDto;
 import lion.studypartner.entity.Study;
 import lion.studypartner.entity.StudyPost;
 import lion.studypartner.entity.User;
+import lion.studypartner.event.StudyPostChangedEvent;
 import lion.studypartner.repository.StudyPostRepository;
 import lion.studypartner.repository.StudyRepository;
 import lion.studypartner.repository.UserRepository;
+import lion.studypartner.search.StudyPostSearchEngine;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -22,6 +32,8 @@ public class StudyPostService {
     private final StudyPostRepository studyPostRepository;
     private final StudyRepository studyRepository;
     private final UserRepository userRepository;
+    private final StudyPostSearchEngine studyPostSearchEngine;
+    private final ApplicationEventPublisher eventPublisher;
     
     // 게시글 생성
     public StudyPostDto.PostResponse createPost(Long studyId, StudyPostDto.CreateRequest request, Long authorId) {
@@ -39,6 +51,7 @@ public class StudyPostService {
         post.setType(request.getType());
         
         StudyPost savedPost = studyPostRepository.save(post);
+        eventPublisher.publishEvent(StudyPostChangedEvent.from(savedPost));
         return convertToPostResponse(savedPost);
     }
     
@@ -57,6 +70,7 @@ public class StudyPostService {
         if (request.getType() != null) post.setType(request.getType());
         
         StudyPost updatedPost = studyPostRepository.save(post);
+        eventPublisher.publishEvent(StudyPostChangedEvent.from(updatedPost));
         return convertToPostResponse(updatedPost);
     }
     
@@ -86,8 +100,39 @@ public class StudyPostService {
     // 게시글 검색
     @Transactional(readOnly = true)
     public Page<StudyPostDto.PostListResponse> searchPosts(String keyword, Pageable pageable) {
-        Page<StudyPost> posts = studyPostRepository.findByKeyword(keyword, pageable);
-        return posts.map(this::convertToPostListResponse);
+        return searchPosts(null, keyword, pageable);
+    }
+    
+    // 게시글 검색 (BM25 랭킹, studyId가 null이면 전체 스터디 대상)
+    @Transactional(readOnly = true)
+    public Page<StudyPostDto.PostListResponse> searchPosts(Long studyId, String keyword, Pageable pageable) {
+        if (!studyPostSearchEngine.isReady()) {
+            // 기동 직후 인덱스 구성 전에는 DB 검색 (스터디 범위와 활성 글 조건 유지)
+            Page<StudyPost> posts = studyId != null
+                    ? studyPostRepository.findByStudyIdAndKeyword(studyId, keyword, pageable)
+                    : studyPostRepository.findByKeyword(keyword, pageable);
+            return posts.map(this::convertToPostListResponse);
+        }
+        
+        List<StudyPostSearchEngine.ScoredPost> ranked = studyPostSearchEngine.search(keyword, studyId);
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        List<Long> pageIds = ranked.subList(from, to).stream()
+                .map(StudyPostSearchEngine.ScoredPost::getPostId)
+                .collect(Collectors.toList());
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ranked.size());
+        }
+        
+        // 한 번의 조회로 가져온 뒤 랭킹 순서대로 정렬
+        Map<Long, StudyPost> postsById = studyPostRepository.findWithAuthorByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(StudyPost::getId, Function.identity()));
+        List<StudyPostDto.PostListResponse> content = pageIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToPostListResponse)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, ranked.size());
     }
     
     // 게시글 삭제
@@ -102,6 +147,7 @@ public class StudyPostService {
         
         post.setStatus("deleted");
         studyPostRepository.save(post);
+        eventPublisher.publishEvent(StudyPostChangedEvent.from(post));
     }
     
     // DTO 변환 메서드들
@@ -3,18 +3,46 @@ package lion.studypartner.service;
 import lion.studypartner.dto.*;
 import lion.studypartner.entity.Study;
 import lion.studypartner.entity.StudyMember;
+import lion.studypartner.entity.StudyWaitlistEntry;
 import lion.studypartner.entity.User;
+import lion.studypartner.event.StudyChangedEvent;
+import lion.studypartner.event.StudySnapshot;
+import lion.studypartner.repository.StudyCardRepository;
 import lion.studypartner.repository.StudyMemberRepository;
 import lion.studypartner.repository.StudyRepository;
+import lion.studypartner.repository.StudyWaitlistRepository;
 import lion.studypartner.repository.UserRepository;
+import lion.studypartner.search.StudyAutocompleteIndex;
+import lion.studypartner.search.StudyFacetIndex;
+import lion.studypartner.search.StudyGeoIndex;
+import lion.studypartner.search.StudyLeaderboard;
+import lion.studypartner.search.StudySearchCache;
+import lion.studypartner.search.StudySearchIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,10 +50,42 @@ import java.util.stream.Collectors;
 @Transactional
 public class StudyService {
     
+    // DB에서 IN 절로 필터/정렬할 검색 인덱스 후보 ID 최대 개수 (넘으면 인덱스 값으로 메모리에서 정렬)
+    private static final int KEYWORD_CANDIDATE_IN_LIMIT = 1000;
+    // 메모리에서 정렬할 후보 최대 개수 (넘으면 키워드 LIKE 조건으로 DB에서 정렬)
+    private static final int IN_MEMORY_SORT_LIMIT = 50_000;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_IDS = 100;
+    
+    // 패싯 인덱스의 정렬 키로 메모리 정렬이 가능한 정렬 속성 (나머지는 DB 정렬)
+    private static final Map<String, Comparator<StudyFacetIndex.SortKey>> SORT_KEY_COMPARATORS = Map.of(
+            "id", Comparator.comparing(StudyFacetIndex.SortKey::getId),
+            "createdAt", Comparator.comparing(StudyFacetIndex.SortKey::getCreatedAt,
+                    Comparator.nullsFirst(Comparator.naturalOrder())),
+            "currentParticipants", Comparator.comparingInt(StudyFacetIndex.SortKey::getCurrentParticipants)
+    );
+    private static final Comparator<StudyFacetIndex.SortKey> ID_DESC =
+            Comparator.comparing(StudyFacetIndex.SortKey::getId, Comparator.reverseOrder());
+    // 키셋 페이지네이션 순서 (CREATED_AT_SEEK, PARTICIPANTS_SEEK 와 같음)
+    private static final Comparator<StudyFacetIndex.SortKey> LATEST_ORDER =
+            SORT_KEY_COMPARATORS.get("createdAt").reversed().thenComparing(ID_DESC);
+    private static final Comparator<StudyFacetIndex.SortKey> POPULAR_ORDER =
+            SORT_KEY_COMPARATORS.get("currentParticipants").reversed().thenComparing(ID_DESC);
+    
     private final StudyRepository studyRepository;
+    private final StudyCardRepository studyCardRepository;
     private final StudyMemberRepository studyMemberRepository;
+    private final StudyWaitlistRepository studyWaitlistRepository;
     private final UserRepository userRepository;
-    private final NotificationService notificationService;
+    private final NotificationOutbox notificationOutbox;
+    private final StudySearchIndex studySearchIndex;
+    private final StudyFacetIndex studyFacetIndex;
+    private final StudyGeoIndex studyGeoIndex;
+    private final StudyAutocompleteIndex studyAutocompleteIndex;
+    private final StudySearchCache studySearchCache;
+    private final StudyLeaderboard studyLeaderboard;
+    private final RecommendationService recommendationService;
+    private final ApplicationEventPublisher eventPublisher;
     
     // 스터디 생성 (기존 DTO)
     public StudyDto.StudyResponse createStudy(StudyDto.CreateRequest request, Long leaderId) {
@@ -43,6 +103,7 @@ public class StudyService {
         study.setStudyType(request.getStudyType());
         study.setMeetingLink(request.getMeetingLink());
         study.setContactInfo(request.getContactInfo());
+        applyCoordinates(study, request.getLatitude(), request.getLongitude());
         study.setLeader(leader);
         
         Study savedStudy = studyRepository.save(study);
@@ -55,7 +116,8 @@ public class StudyService {
         leaderMember.setStatus("active");
         studyMemberRepository.save(leaderMember);
         
-        return convertToStudyResponse(savedStudy);
+        eventPublisher.publishEvent(StudyChangedEvent.created(StudySnapshot.from(savedStudy)));
+        return convertToStudyResponse(savedStudy, List.of(leaderMember));
     }
     
     // 스터디 생성 (새로운 DTO)
@@ -74,6 +136,7 @@ public class StudyService {
         study.setStudyType(request.getStudyType());
         study.setMeetingLink(request.getMeetingLink());
         study.setContactInfo(request.getContactInfo());
+        applyCoordinates(study, request.getLatitude(), request.getLongitude());
         study.setLeader(leader);
         
         Study savedStudy = studyRepository.save(study);
@@ -86,12 +149,13 @@ public class StudyService {
         leaderMember.setStatus("active");
         studyMemberRepository.save(leaderMember);
         
-        return convertToStudyResponse(savedStudy);
+        eventPublisher.publishEvent(StudyChangedEvent.created(StudySnapshot.from(savedStudy)));
+        return convertToStudyResponse(savedStudy, List.of(leaderMember));
     }
     
     // 스터디 수정 (기존 DTO)
     public StudyDto.StudyResponse updateStudy(Long studyId, StudyDto.UpdateRequest request, Long userId) {
-        Study study = studyRepository.findById(studyId)
+        Study study = studyRepository.findWithLeaderById(studyId)
                 .orElseThrow(() -> new RuntimeException("스터디를 찾을 수 없습니다."));
         
         // 리더만 수정 가능
@@ -99,6 +163,7 @@ public class StudyService {
             throw new RuntimeException("스터디를 수정할 권한이 없습니다.");
         }
         
+        StudySnapshot previous = StudySnapshot.from(study);
         if (request.getTitle() != null) study.setTitle(request.getTitle());
         if (request.getDescription() != null) study.setDescription(request.getDescription());
         if (request.getCategory() != null) study.setCategory(request.getCategory());
@@ -110,14 +175,16 @@ public class StudyService {
         if (request.getMeetingLink() != null) study.setMeetingLink(request.getMeetingLink());
         if (request.getContactInfo() != null) study.setContactInfo(request.getContactInfo());
         if (request.getStatus() != null) study.setStatus(request.getStatus());
+        applyCoordinates(study, request.getLatitude(), request.getLongitude());
         
         Study updatedStudy = studyRepository.save(study);
-        return convertToStudyResponse(updatedStudy);
+        eventPublisher.publishEvent(StudyChangedEvent.updated(previous, StudySnapshot.from(updatedStudy)));
+        return convertToStudyResponse(updatedStudy, studyMemberRepository.findActiveWithUserByStudyId(studyId));
     }
     
     // 스터디 수정 (새로운 DTO)
     public StudyDto.StudyResponse updateStudy(Long studyId, StudyUpdateRequest request, Long userId) {
-        Study study = studyRepository.findById(studyId)
+        Study study = studyRepository.findWithLeaderById(studyId)
                 .orElseThrow(() -> new RuntimeException("스터디를 찾을 수 없습니다."));
         
         // 리더만 수정 가능
@@ -125,6 +192,7 @@ public class StudyService {
             throw new RuntimeException("스터디를 수정할 권한이 없습니다.");
         }
         
+        StudySnapshot previous = StudySnapshot.from(study);
         if (request.getTitle() != null) study.setTitle(request.getTitle());
         if (request.getDescription() != null) study.setDescription(request.getDescription());
         if (request.getCategory() != null) study.setCategory(request.getCategory());
@@ -136,58 +204,436 @@ public class StudyService {
         if (request.getMeetingLink() != null) study.setMeetingLink(request.getMeetingLink());
         if (request.getContactInfo() != null) study.setContactInfo(request.getContactInfo());
         if (request.getStatus() != null) study.setStatus(request.getStatus());
+        applyCoordinates(study, request.getLatitude(), request.getLongitude());
         
         Study updatedStudy = studyRepository.save(study);
-        return convertToStudyResponse(updatedStudy);
+        eventPublisher.publishEvent(StudyChangedEvent.updated(previous, StudySnapshot.from(updatedStudy)));
+        return convertToStudyResponse(updatedStudy, studyMemberRepository.findActiveWithUserByStudyId(studyId));
     }
     
     // 스터디 상세 조회 (기존)
     @Transactional(readOnly = true)
     public StudyDto.StudyResponse getStudy(Long studyId) {
-        Study study = studyRepository.findById(studyId)
+        Study study = studyRepository.findWithLeaderById(studyId)
                 .orElseThrow(() -> new RuntimeException("스터디를 찾을 수 없습니다."));
         
-        return convertToStudyResponse(study);
+        return convertToStudyResponse(study, studyMemberRepository.findActiveWithUserByStudyId(studyId));
     }
     
     // 스터디 상세 조회 (새로운 DTO)
+    // 스터디+리더, 활성 멤버+사용자 두 번의 SQL로 조회 (멤버 수와 무관)
     @Transactional(readOnly = true)
     public StudyDetailResponse getStudyDetail(Long studyId, Long currentUserId) {
-        Study study = studyRepository.findById(studyId)
+        Study study = studyRepository.findWithLeaderById(studyId)
                 .orElseThrow(() -> new RuntimeException("스터디를 찾을 수 없습니다."));
         
-        return StudyDetailResponse.from(study, currentUserId);
+        List<StudyMember> members = studyMemberRepository.findActiveWithUserByStudyId(studyId);
+        return StudyDetailResponse.from(study, members, currentUserId);
+    }
+    
+    // 상세 응답 ETag (스터디 수정 시각 + 멤버십 변경 + 조회 사용자, 스터디가 없으면 null)
+    // 응답을 만들지 않고 집계 쿼리 한 번으로 계산해 조건부 요청에 304로 답할 수 있게 한다.
+    @Transactional(readOnly = true)
+    public String getStudyDetailETag(Long studyId, Long currentUserId) {
+        List<Object[]> versions = studyRepository.findDetailVersion(studyId);
+        if (versions.isEmpty()) {
+            return null;
+        }
+        Object[] version = versions.get(0);
+        return weakETag(studyId, version[0], version[1], version[2], version[3], version[4], currentUserId);
+    }
+    
+    // 목록/검색 응답 ETag (스터디 변경이 커밋되어 검색 캐시 무효화를 마칠 때마다 올라가는 메모리 버전, DB 조회 없음)
+    public String getStudyListETag() {
+        return weakETag(studySearchCache.getStartedAt(), studySearchCache.listVersion());
     }
     
     // 스터디 목록 조회
     @Transactional(readOnly = true)
     public Page<StudyDto.StudyListResponse> getStudyList(Pageable pageable) {
-        Page<Study> studies = studyRepository.findAll(pageable);
-        return studies.map(this::convertToStudyListResponse);
+        Page<StudyListRow> rows = studyCardRepository.findListRows(pageable);
+        return rows.map(this::convertToStudyListResponse);
     }
     
-    // 스터디 검색
+    // 스터디 검색 (같은 조건/페이지 반복 조회는 캐시에서 응답)
     @Transactional(readOnly = true)
     public Page<StudyDto.StudyListResponse> searchStudies(StudyDto.SearchRequest request, Pageable pageable) {
-        Page<Study> studies = studyRepository.findBySearchCriteria(
+        return studySearchCache.getOrLoad(request, pageable, () -> loadSearchResult(request, pageable));
+    }
+    
+    private Page<StudyDto.StudyListResponse> loadSearchResult(StudyDto.SearchRequest request, Pageable pageable) {
+        String keyword = normalizeKeyword(request.getKeyword());
+        if (request.getLatitude() != null && request.getLongitude() != null) {
+            return searchStudiesNearby(request, keyword, pageable);
+        }
+        
+        // 키워드는 n-gram 인덱스로 후보를 좁힌 뒤 나머지 조건으로 필터링
+        Set<Long> candidateIds = findKeywordCandidates(keyword);
+        if (candidateIds != null) {
+            if (candidateIds.isEmpty()) {
+                return Page.empty(pageable);
+            }
+            if (candidateIds.size() <= KEYWORD_CANDIDATE_IN_LIMIT) {
+                return studyCardRepository.findListRowsBySearchCriteriaAndIdIn(
+                        request.getCategory(), request.getLocation(), request.getStudyType(), request.getStatus(),
+                        candidateIds, pageable).map(this::convertToStudyListResponse);
+            }
+            // 후보가 많으면 패싯 비트맵으로 거르고 인덱스 정렬 키로 페이지를 자른 뒤 해당 페이지 ID만 조회
+            List<StudyFacetIndex.SortKey> sorted = sortCandidates(request, candidateIds, sortKeyComparator(pageable.getSort()));
+            if (sorted != null) {
+                int from = (int) Math.min(pageable.getOffset(), sorted.size());
+                int to = Math.min(from + pageable.getPageSize(), sorted.size());
+                List<Long> pageIds = sorted.subList(from, to).stream()
+                        .map(StudyFacetIndex.SortKey::getId)
+                        .collect(Collectors.toList());
+                return new PageImpl<>(findStudyListByIds(pageIds), pageable, sorted.size());
+            }
+        }
+        
+        // 인덱스 준비 전이거나 메모리에서 정렬할 수 없으면 DB에서 키워드 조건과 함께 정렬
+        Page<StudyListRow> rows = studyCardRepository.findListRowsBySearchCriteria(
                 request.getCategory(),
                 request.getLocation(),
                 request.getStudyType(),
                 request.getStatus(),
-                request.getKeyword(),
+                keyword,
                 pageable
         );
-        return studies.map(this::convertToStudyListResponse);
+        return rows.map(this::convertToStudyListResponse);
+    }
+    
+    // 검색 인덱스 후보 중 나머지 조건을 만족하는 스터디를 정렬 키 순으로 반환
+    // 패싯 인덱스가 준비되지 않았거나, 정렬할 수 없는 속성이거나, 결과가 너무 많으면 null (DB 정렬 사용)
+    private List<StudyFacetIndex.SortKey> sortCandidates(StudyDto.SearchRequest request, Set<Long> candidateIds,
+                                                        Comparator<StudyFacetIndex.SortKey> comparator) {
+        if (comparator == null || !studyFacetIndex.isReady()) {
+            return null;
+        }
+        List<StudyFacetIndex.SortKey> matched = studyFacetIndex.filterSortKeys(searchFilters(request), candidateIds);
+        if (matched.size() > IN_MEMORY_SORT_LIMIT) {
+            return null;
+        }
+        matched.sort(comparator);
+        return matched;
+    }
+    
+    // 페이지 정렬 조건에 맞는 정렬 키 비교자 (인덱스에 없는 속성이면 null, 같으면 최신 ID 우선)
+    private Comparator<StudyFacetIndex.SortKey> sortKeyComparator(Sort sort) {
+        Comparator<StudyFacetIndex.SortKey> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<StudyFacetIndex.SortKey> byProperty = SORT_KEY_COMPARATORS.get(order.getProperty());
+            if (byProperty == null) {
+                return null;
+            }
+            byProperty = order.isAscending() ? byProperty : byProperty.reversed();
+            comparator = comparator == null ? byProperty : comparator.thenComparing(byProperty);
+        }
+        return comparator == null ? ID_DESC : comparator.thenComparing(ID_DESC);
+    }
+    
+    private Map<String, String> searchFilters(StudyDto.SearchRequest request) {
+        Map<String, String> filters = new HashMap<>();
+        putFilter(filters, StudyFacetIndex.CATEGORY, request.getCategory());
+        putFilter(filters, StudyFacetIndex.LOCATION, request.getLocation());
+        putFilter(filters, StudyFacetIndex.STUDY_TYPE, request.getStudyType());
+        putFilter(filters, StudyFacetIndex.STATUS, request.getStatus());
+        return filters;
+    }
+    
+    // 위치 기반 검색: 격자 인덱스로 반경 내 후보를 찾고 나머지 조건은 패싯 인덱스로 확인 (가까운 순, 정렬 파라미터 무시)
+    private Page<StudyDto.StudyListResponse> searchStudiesNearby(
+            StudyDto.SearchRequest request, String keyword, Pageable pageable) {
+        Map<String, String> filters = searchFilters(request);
+        if (!studyGeoIndex.isReady() || (keyword != null && !studySearchIndex.isReady())
+                || (!filters.isEmpty() && !studyFacetIndex.isReady())) {
+            throw new RuntimeException("검색 인덱스를 준비 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+        double radiusKm = request.getRadiusKm() != null ? request.getRadiusKm() : StudyGeoIndex.DEFAULT_RADIUS_KM;
+        if (radiusKm <= 0 || radiusKm > StudyGeoIndex.MAX_RADIUS_KM) {
+            throw new RuntimeException("검색 반경은 0km 초과 " + (int) StudyGeoIndex.MAX_RADIUS_KM + "km 이하여야 합니다.");
+        }
+        
+        List<StudyGeoIndex.GeoHit> hits = studyGeoIndex.findWithin(request.getLatitude(), request.getLongitude(), radiusKm);
+        if (keyword != null) {
+            Set<Long> keywordIds = studySearchIndex.search(keyword);
+            hits.removeIf(hit -> !keywordIds.contains(hit.getStudyId()));
+        }
+        if (hits.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        
+        // 다른 조건은 패싯 비트맵으로 메모리에서 확인 (반경 내 후보 수와 무관하게 DB 조회 없음)
+        if (!filters.isEmpty()) {
+            Set<Long> matchedIds = studyFacetIndex.filter(filters,
+                    hits.stream().map(StudyGeoIndex.GeoHit::getStudyId).collect(Collectors.toList()));
+            hits.removeIf(hit -> !matchedIds.contains(hit.getStudyId()));
+        }
+        
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        Map<Long, Double> distances = new HashMap<>();
+        hits.subList(from, to).forEach(hit -> distances.put(hit.getStudyId(), Math.round(hit.getDistanceKm() * 100) / 100.0));
+        
+        List<StudyDto.StudyListResponse> content = findStudyListByIds(
+                hits.subList(from, to).stream().map(StudyGeoIndex.GeoHit::getStudyId).collect(Collectors.toList()));
+        content.forEach(study -> study.setDistanceKm(distances.get(study.getId())));
+        return new PageImpl<>(content, pageable, hits.size());
+    }
+    
+    // 스터디 목록 키셋 페이지네이션 (목록/검색/카테고리/위치 공통, COUNT 쿼리 없음)
+    @Transactional(readOnly = true)
+    public StudyDto.CursorPageResponse<StudyDto.StudyListResponse> searchStudiesByCursor(
+            StudyDto.SearchRequest request, String cursor, int size, String orderBy) {
+        StudyCursor.Order order = StudyCursor.Order.from(orderBy);
+        StudyCursor after = StudyCursor.decode(cursor, order);
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        
+        String keyword = normalizeKeyword(request.getKeyword());
+        Set<Long> candidateIds = findKeywordCandidates(keyword);
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            return StudyDto.CursorPageResponse.<StudyDto.StudyListResponse>builder()
+                    .content(List.of())
+                    .size(0)
+                    .hasNext(false)
+                    .build();
+        }
+        
+        List<StudyListRow> rows;
+        if (candidateIds != null && candidateIds.size() <= KEYWORD_CANDIDATE_IN_LIMIT) {
+            rows = findCursorRows(request, null, candidateIds, order, after, limit);
+        } else {
+            // 후보가 많으면 인덱스 정렬 키에서 커서 위치를 찾아 다음 페이지 ID만 조회
+            List<StudyFacetIndex.SortKey> sorted = candidateIds != null
+                    ? sortCandidates(request, candidateIds, order == StudyCursor.Order.LATEST ? LATEST_ORDER : POPULAR_ORDER)
+                    : null;
+            rows = sorted != null
+                    ? findListRowsByIds(seek(sorted, order, after, limit.getPageSize()))
+                    : findCursorRows(request, keyword, null, order, after, limit);
+        }
+        
+        boolean hasNext = rows.size() > pageSize;
+        List<StudyListRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            StudyListRow last = page.get(page.size() - 1);
+            nextCursor = order == StudyCursor.Order.LATEST
+                    ? StudyCursor.latest(last.getCreatedAt(), last.getId()).encode()
+                    : StudyCursor.popular(last.getCurrentParticipants(), last.getId()).encode();
+        }
+        
+        return StudyDto.CursorPageResponse.<StudyDto.StudyListResponse>builder()
+                .content(page.stream().map(this::convertToStudyListResponse).collect(Collectors.toList()))
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+    
+    // 정렬된 키에서 커서 다음 위치부터 최대 limit개의 ID
+    private List<Long> seek(List<StudyFacetIndex.SortKey> sorted, StudyCursor.Order order, StudyCursor after, int limit) {
+        int from = 0;
+        if (after != null) {
+            StudyFacetIndex.SortKey cursorKey = new StudyFacetIndex.SortKey(after.getId(), after.getCreatedAt(),
+                    after.getCurrentParticipants() != null ? after.getCurrentParticipants() : 0);
+            int position = Collections.binarySearch(sorted, cursorKey,
+                    order == StudyCursor.Order.LATEST ? LATEST_ORDER : POPULAR_ORDER);
+            from = position >= 0 ? position + 1 : -(position + 1);
+        }
+        return sorted.subList(from, Math.min(from + limit, sorted.size())).stream()
+                .map(StudyFacetIndex.SortKey::getId)
+                .collect(Collectors.toList());
+    }
+    
+    // 키셋 페이지 조회 (ids가 있으면 검색 인덱스 후보 내, 없으면 LIKE 키워드 조건)
+    private List<StudyListRow> findCursorRows(StudyDto.SearchRequest request, String keyword, Collection<Long> ids,
+                                              StudyCursor.Order order, StudyCursor after, Pageable limit) {
+        if (order == StudyCursor.Order.LATEST) {
+            LocalDateTime cursorCreatedAt = after != null ? after.getCreatedAt() : null;
+            Long cursorId = after != null ? after.getId() : null;
+            return ids != null
+                    ? studyCardRepository.findListRowsBySearchCriteriaAndIdInAfterCreatedAt(
+                            request.getCategory(), request.getLocation(), request.getStudyType(), request.getStatus(),
+                            ids, cursorCreatedAt, cursorId, limit)
+                    : studyCardRepository.findListRowsBySearchCriteriaAfterCreatedAt(
+                            request.getCategory(), request.getLocation(), request.getStudyType(), request.getStatus(),
+                            keyword, cursorCreatedAt, cursorId, limit);
+        }
+        Integer cursorParticipants = after != null ? after.getCurrentParticipants() : null;
+        Long cursorId = after != null ? after.getId() : null;
+        return ids != null
+                ? studyCardRepository.findListRowsBySearchCriteriaAndIdInAfterParticipants(
+                        request.getCategory(), request.getLocation(), request.getStudyType(), request.getStatus(),
+                        ids, cursorParticipants, cursorId, limit)
+                : studyCardRepository.findListRowsBySearchCriteriaAfterParticipants(
+                        request.getCategory(), request.getLocation(), request.getStudyType(), request.getStatus(),
+                        keyword, cursorParticipants, cursorId, limit);
+    }
+    
+    // 패싯 검색 (비트맵 인덱스로 필터링 결과와 값별 개수를 함께 계산, 최신순)
+    @Transactional(readOnly = true)
+    public StudyDto.FacetSearchResponse searchStudiesWithFacets(StudyDto.SearchRequest request, Pageable pageable) {
+        if (!studyFacetIndex.isReady()) {
+            throw new RuntimeException("검색 인덱스를 준비 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+        
+        String keyword = normalizeKeyword(request.getKeyword());
+        Set<Long> keywordIds = keyword != null ? studySearchIndex.search(keyword) : null;
+        
+        Map<String, String> filters = searchFilters(request);
+        
+        StudyFacetIndex.FacetResult result = studyFacetIndex.search(filters, keywordIds);
+        List<Long> ids = result.getIds();
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        int to = Math.min(from + pageable.getPageSize(), ids.size());
+        
+        return StudyDto.FacetSearchResponse.builder()
+                .content(findStudyListByIds(ids.subList(from, to)))
+                .page(pageable.getPageNumber())
+                .size(pageable.getPageSize())
+                .totalElements(ids.size())
+                .facets(result.getCounts())
+                .build();
+    }
+    
+    // 검색창 자동완성 (인메모리 트라이만 사용하므로 트랜잭션을 열지 않음)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public StudyDto.AutocompleteResponse autocomplete(String prefix, int size) {
+        if (!studyAutocompleteIndex.isReady()) {
+            throw new RuntimeException("검색 인덱스를 준비 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+        
+        StudyAutocompleteIndex.Suggestions suggestions = studyAutocompleteIndex.suggest(prefix, size);
+        return StudyDto.AutocompleteResponse.builder()
+                .categories(suggestions.getCategories())
+                .studies(suggestions.getStudies().stream()
+                        .map(suggestion -> StudyDto.AutocompleteItem.builder()
+                                .id(suggestion.getStudyId())
+                                .title(suggestion.getTitle())
+                                .category(suggestion.getCategory())
+                                .currentParticipants(suggestion.getCurrentParticipants())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+    
+    // 인기 스터디 (참여자 수 순, category가 없으면 전체)
+    @Transactional(readOnly = true)
+    public List<StudyDto.StudyListResponse> getPopularStudies(String category, int size) {
+        int limit = Math.max(1, Math.min(size, StudyLeaderboard.MAX_SIZE));
+        String scope = category != null && !category.isBlank() ? category : null;
+        
+        // 기동 직후 리더보드 구성 전에는 DB 정렬로 응답
+        if (!studyLeaderboard.isReady()) {
+            PageRequest page = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "currentParticipants", "id"));
+            return studyCardRepository.findListRowsBySearchCriteria(scope, null, null, null, null, page)
+                    .map(this::convertToStudyListResponse)
+                    .getContent();
+        }
+        
+        return findStudyListByIds(studyLeaderboard.top(scope, limit));
+    }
+    
+    // 사용자 맞춤 추천 스터디 (미리 계산된 목록 조회, 추천이 없으면 인기 스터디)
+    @Transactional(readOnly = true)
+    public List<StudyDto.StudyListResponse> getRecommendedStudies(Long userId, int size) {
+        int limit = Math.max(1, Math.min(size, RecommendationService.MAX_RECOMMENDATIONS));
+        List<Long> ids = recommendationService.recommend(userId, limit);
+        if (ids.isEmpty()) {
+            return getPopularStudies(null, limit);
+        }
+        return findStudyListByIds(ids);
+    }
+    
+    // 여러 스터디 일괄 조회 (IN 쿼리 한 번, 요청 순서 유지, 중복 ID는 한 번만)
+    @Transactional(readOnly = true)
+    public StudyDto.BatchResponse getStudiesByIds(List<Long> ids) {
+        List<Long> distinctIds = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        if (distinctIds.size() > MAX_BATCH_IDS) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 스터디는 최대 " + MAX_BATCH_IDS + "개입니다.");
+        }
+        
+        List<StudyDto.StudyListResponse> studies = findStudyListByIds(distinctIds);
+        Set<Long> foundIds = studies.stream()
+                .map(StudyDto.StudyListResponse::getId)
+                .collect(Collectors.toSet());
+        return StudyDto.BatchResponse.builder()
+                .studies(studies)
+                .missingIds(distinctIds.stream()
+                        .filter(id -> !foundIds.contains(id))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+    
+    private void putFilter(Map<String, String> filters, String facet, String value) {
+        if (value != null && !value.isBlank()) {
+            filters.put(facet, value);
+        }
+    }
+    
+    // ID 목록 순서를 유지한 목록 응답 (리더 포함 단일 조회)
+    private List<StudyDto.StudyListResponse> findStudyListByIds(List<Long> ids) {
+        return findListRowsByIds(ids).stream()
+                .map(this::convertToStudyListResponse)
+                .collect(Collectors.toList());
+    }
+    
+    // ID 목록 순서를 유지한 목록 행 (IN 쿼리 한 번, 없는 ID는 제외)
+    private List<StudyListRow> findListRowsByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, StudyListRow> rowsById = studyCardRepository.findListRowsByIdIn(ids).stream()
+                .collect(Collectors.toMap(StudyListRow::getId, Function.identity()));
+        return ids.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+    
+    // 좌표는 위도/경도를 함께 지정해야 함 (둘 다 없으면 변경하지 않음)
+    private void applyCoordinates(Study study, Double latitude, Double longitude) {
+        if (latitude == null && longitude == null) {
+            return;
+        }
+        if (latitude == null || longitude == null) {
+            throw new RuntimeException("위도와 경도는 함께 입력해야 합니다.");
+        }
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new RuntimeException("좌표 범위가 올바르지 않습니다.");
+        }
+        study.setLatitude(latitude);
+        study.setLongitude(longitude);
+    }
+    
+    // 빈 키워드는 조건 없음으로 처리
+    private String normalizeKeyword(String keyword) {
+        return keyword != null && !keyword.isBlank() ? keyword : null;
+    }
+    
+    // 검색 인덱스 후보 ID (null이면 키워드가 없거나 기동 직후 인덱스 구성 전이라 LIKE 검색으로 처리)
+    private Set<Long> findKeywordCandidates(String keyword) {
+        if (keyword == null || !studySearchIndex.isReady()) {
+            return null;
+        }
+        return studySearchIndex.search(keyword);
     }
     
-    // 스터디 참여
-    public StudyDto.StudyResponse joinStudy(Long studyId, Long userId) {
+    // 스터디 참여 (정원이 찼으면 대기열에 등록하고 순번을 반환)
+    // 스터디 행을 잠근 뒤 엔티티의 참여자 수를 바꿔서, 벌크 UPDATE처럼 2차 캐시 영역 전체를 비우지 않고 해당 스터디만 갱신한다.
+    // 같은 사용자의 중복 참여는 잠금으로 직렬화되고, (study_id, user_id) 유니크 제약이 한 번 더 막는다.
+    public StudyDto.JoinResponse joinStudy(Long studyId, Long userId) {
         // 입력 검증
         if (studyId == null || userId == null) {
             throw new IllegalArgumentException("스터디 ID와 사용자 ID는 필수입니다.");
         }
         
-        Study study = studyRepository.findById(studyId)
+        // 멤버십 조회보다 먼저 잠가서 잠금 대기 후 최신 멤버십 상태를 읽도록 함
+        Study study = studyRepository.findForUpdateById(studyId)
                 .orElseThrow(() -> new RuntimeException("스터디를 찾을 수 없습니다."));
         
         User user = userRepository.findById(userId)
@@ -198,62 +644,141 @@ public class StudyService {
             throw new RuntimeException("자신이 만든 스터디에는 참여할 수 없습니다.");
         }
         
-        // 이미 참여 중인지 확인
-        if (studyMemberRepository.findByStudyIdAndUserIdAndStatus(studyId, userId, "active").isPresent()) {
+        // 이미 참여 중인지 확인 (탈퇴했던 멤버십은 다시 활성화)
+        StudyMember existing = studyMemberRepository.findByStudyIdAndUserId(studyId, userId).orElse(null);
+        if (existing != null && "active".equals(existing.getStatus())) {
             throw new RuntimeException("이미 참여 중인 스터디입니다.");
         }
+        if (existing != null && "banned".equals(existing.getStatus())) {
+            throw new RuntimeException("참여가 제한된 스터디입니다.");
+        }
         
         // 스터디 상태 확인
         if (!"active".equals(study.getStatus())) {
             throw new RuntimeException("현재 참여할 수 없는 스터디입니다.");
         }
         
-        // 스터디가 가득 찼는지 확인
-        if (study.isFull()) {
-            throw new RuntimeException("스터디 정원이 가득 찼습니다. (현재 " + study.getCurrentParticipants() + "/" + study.getMaxParticipants() + ")");
-        }
-        
         // 스터디 시작 날짜 확인
         if (study.getStartDate().isBefore(LocalDateTime.now())) {
             throw new RuntimeException("이미 시작된 스터디에는 참여할 수 없습니다.");
         }
         
+        StudySnapshot previous = StudySnapshot.from(study);
+        LocalDateTime now = LocalDateTime.now();
+        
+        // 정원 미달일 때만 참여자 수 증가, 만석이면 대기열에 등록
+        if (!study.reserveSeat()) {
+            return StudyDto.JoinResponse.builder()
+                    .waitlisted(true)
+                    .waitlist(enqueueWaitlist(study, user))
+                    .build();
+        }
+        
         try {
-            // 스터디 멤버 추가
-            StudyMember member = new StudyMember();
-            member.setStudy(study);
-            member.setUser(user);
-            member.setRole("member");
-            member.setStatus("active");
-            studyMemberRepository.save(member);
-            
-            // 현재 참여자 수 증가
-            study.setCurrentParticipants(study.getCurrentParticipants() + 1);
-            studyRepository.save(study);
+            activateMembership(study, user, existing, now);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 사용자의 동시 참여 요청 (예약한 좌석은 롤백됨)
+            throw new RuntimeException("이미 참여 중인 스터디입니다.");
+        }
+        // 대기 중이던 사용자가 빈자리로 바로 참여한 경우 대기열에서 제거
+        studyWaitlistRepository.deleteByStudyIdAndUserId(studyId, userId);
+        
+        eventPublisher.publishEvent(StudyChangedEvent.joined(previous, StudySnapshot.from(study)));
+        
+        // 스터디 리더 알림은 아웃박스에 기록하고 커밋 후 디스패처가 생성
+        notificationOutbox.append(NotificationOutbox.STUDY_JOIN, studyId, userId);
+        
+        return StudyDto.JoinResponse.builder()
+                .waitlisted(false)
+                .study(convertToStudyResponse(study, studyMemberRepository.findActiveWithUserByStudyId(studyId)))
+                .build();
+    }
+    
+    // 좌석을 예약한 뒤 멤버십 활성화 (탈퇴했던 멤버십은 재활성화, 없으면 새로 추가)
+    private void activateMembership(Study study, User user, StudyMember existing, LocalDateTime now) {
+        if (existing != null) {
+            existing.setStatus("active");
+            existing.setLeftAt(null);
+            existing.setJoinedAt(now);
+            return;
+        }
+        
+        // 스터디 멤버 추가
+        StudyMember member = new StudyMember();
+        member.setStudy(study);
+        member.setUser(user);
+        member.setRole("member");
+        member.setStatus("active");
+        // 시퀀스 ID라 INSERT가 커밋까지 미뤄지므로, 중복 참여(유니크 제약 위반)를 여기서 잡을 수 있게 즉시 반영
+        studyMemberRepository.saveAndFlush(member);
+    }
+    
+    // 대기열 등록 (스터디 행 잠금 상태에서 호출, 이미 대기 중이면 기존 순번 반환)
+    private StudyDto.WaitlistResponse enqueueWaitlist(Study study, User user) {
+        StudyWaitlistEntry entry = studyWaitlistRepository.findByStudyIdAndUserId(study.getId(), user.getId())
+                .orElse(null);
+        if (entry == null) {
+            entry = new StudyWaitlistEntry();
+            entry.setStudy(study);
+            entry.setUser(user);
+            entry = studyWaitlistRepository.save(entry);
+        }
+        return convertToWaitlistResponse(entry);
+    }
+    
+    // 대기 순번 조회
+    @Transactional(readOnly = true)
+    public StudyDto.WaitlistResponse getWaitlistPosition(Long studyId, Long userId) {
+        StudyWaitlistEntry entry = studyWaitlistRepository.findByStudyIdAndUserId(studyId, userId)
+                .orElseThrow(() -> new RuntimeException("대기 중인 스터디가 아닙니다."));
+        return convertToWaitlistResponse(entry);
+    }
+    
+    // 대기 취소
+    public void cancelWaitlist(Long studyId, Long userId) {
+        if (studyWaitlistRepository.deleteByStudyIdAndUserId(studyId, userId) == 0) {
+            throw new RuntimeException("대기 중인 스터디가 아닙니다.");
+        }
+    }
+    
+    // 빈자리를 대기열 맨 앞 사용자에게 배정 (탈퇴와 같은 트랜잭션, 스터디 행 잠금 상태에서 호출)
+    private Long promoteFromWaitlist(Study study, LocalDateTime now) {
+        // 모집이 끝났거나 이미 시작한 스터디는 승격하지 않음
+        if (!"active".equals(study.getStatus()) || study.getStartDate().isBefore(now)) {
+            return null;
+        }
+        
+        StudyWaitlistEntry head;
+        while ((head = studyWaitlistRepository.findFirstByStudyIdOrderByIdAsc(study.getId()).orElse(null)) != null) {
+            User user = head.getUser();
+            StudyMember existing = studyMemberRepository.findByStudyIdAndUserId(study.getId(), user.getId())
+                    .orElse(null);
             
-            // 스터디 리더에게 알림 생성 (NotificationService 사용)
-            try {
-                notificationService.createStudyJoinNotification(studyId, userId);
-            } catch (Exception e) {
-                // 알림 생성 실패는 메인 로직에 영향을 주지 않음
-                System.err.println("알림 생성 실패: " + e.getMessage());
+            // 이미 참여 중이거나 참여가 제한된 사용자는 대기열에서 빼고 다음 사용자로
+            if (existing != null && !"inactive".equals(existing.getStatus())) {
+                studyWaitlistRepository.delete(head);
+                continue;
             }
             
-            return convertToStudyResponse(study);
-            
-        } catch (Exception e) {
-            throw new RuntimeException("스터디 참여 처리 중 오류가 발생했습니다: " + e.getMessage());
+            if (!study.reserveSeat()) {
+                return null;
+            }
+            studyWaitlistRepository.delete(head);
+            activateMembership(study, user, existing, now);
+            return user.getId();
         }
+        return null;
     }
     
-    // 스터디 탈퇴
+    // 스터디 탈퇴 (대기자가 있으면 같은 트랜잭션에서 맨 앞 사용자를 참여시킴)
     public void leaveStudy(Long studyId, Long userId) {
         // 입력 검증
         if (studyId == null || userId == null) {
             throw new IllegalArgumentException("스터디 ID와 사용자 ID는 필수입니다.");
         }
         
-        Study study = studyRepository.findById(studyId)
+        // 동시 탈퇴/참여와 직렬화되도록 멤버십 조회 전에 스터디 행을 잠금
+        Study study = studyRepository.findForUpdateById(studyId)
                 .orElseThrow(() -> new RuntimeException("스터디를 찾을 수 없습니다."));
         
         User user = userRepository.findById(userId)
@@ -267,35 +792,30 @@ public class StudyService {
             throw new RuntimeException("스터디 리더는 탈퇴할 수 없습니다. 스터디를 삭제하거나 리더를 변경해주세요.");
         }
         
-        try {
-            // 멤버 상태를 비활성화로 변경
-            member.setStatus("inactive");
-            member.setLeftAt(LocalDateTime.now());
-            studyMemberRepository.save(member);
-            
-            // 현재 참여자 수 감소 (0 이하로 내려가지 않도록 보호)
-            int currentParticipants = Math.max(0, study.getCurrentParticipants() - 1);
-            study.setCurrentParticipants(currentParticipants);
-            studyRepository.save(study);
-            
-            // 스터디 리더에게 알림 생성 (NotificationService 사용)
-            try {
-                notificationService.createStudyLeaveNotification(studyId, userId);
-            } catch (Exception e) {
-                // 알림 생성 실패는 메인 로직에 영향을 주지 않음
-                System.err.println("알림 생성 실패: " + e.getMessage());
-            }
-            
-        } catch (Exception e) {
-            throw new RuntimeException("스터디 탈퇴 처리 중 오류가 발생했습니다: " + e.getMessage());
+        StudySnapshot previous = StudySnapshot.from(study);
+        LocalDateTime now = LocalDateTime.now();
+        
+        // 멤버 상태를 비활성화로 변경 (잠금 이후에 활성 멤버십을 읽었으므로 동시 탈퇴가 두 번 반영되지 않음)
+        member.setStatus("inactive");
+        member.setLeftAt(now);
+        
+        // 현재 참여자 수 감소 (0 이하로 내려가지 않도록 보호, 스터디 행 잠금은 커밋까지 유지됨)
+        study.releaseSeat();
+        Long promotedUserId = promoteFromWaitlist(study, now);
+        eventPublisher.publishEvent(StudyChangedEvent.left(previous, StudySnapshot.from(study)));
+        
+        // 스터디 리더/승격된 사용자 알림은 아웃박스에 기록하고 커밋 후 디스패처가 생성
+        notificationOutbox.append(NotificationOutbox.STUDY_LEAVE, studyId, userId);
+        if (promotedUserId != null) {
+            notificationOutbox.append(NotificationOutbox.STUDY_WAITLIST_PROMOTED, studyId, promotedUserId);
         }
     }
     
     // 사용자가 참여 중인 스터디 목록
     @Transactional(readOnly = true)
     public Page<StudyDto.StudyListResponse> getMyStudies(Long userId, Pageable pageable) {
-        Page<Study> studies = studyRepository.findByMemberId(userId, pageable);
-        return studies.map(this::convertToStudyListResponse);
+        Page<StudyListRow> rows = studyCardRepository.findListRowsByMemberId(userId, pageable);
+        return rows.map(this::convertToStudyListResponse);
     }
     
     // 스터디 삭제
@@ -308,12 +828,15 @@ public class StudyService {
             throw new RuntimeException("스터디를 삭제할 권한이 없습니다.");
         }
         
+        StudySnapshot previous = StudySnapshot.from(study);
+        studyWaitlistRepository.deleteAllByStudyId(studyId);
         studyRepository.delete(study);
+        eventPublisher.publishEvent(StudyChangedEvent.deleted(previous));
     }
     
     // DTO 변환 메서드들
-    private StudyDto.StudyResponse convertToStudyResponse(Study study) {
-        List<StudyDto.StudyMemberResponse> memberResponses = study.getMembers().stream()
+    private StudyDto.StudyResponse convertToStudyResponse(Study study, List<StudyMember> members) {
+        List<StudyDto.StudyMemberResponse> memberResponses = members.stream()
                 .map(this::convertToStudyMemberResponse)
                 .collect(Collectors.toList());
         
@@ -331,6 +854,8 @@ public class StudyService {
                 .studyType(study.getStudyType())
                 .meetingLink(study.getMeetingLink())
                 .contactInfo(study.getContactInfo())
+                .latitude(study.getLatitude())
+                .longitude(study.getLongitude())
                 .leader(convertToUserInfo(study.getLeader()))
                 .members(memberResponses)
                 .createdAt(study.getCreatedAt())
@@ -338,20 +863,31 @@ public class StudyService {
                 .build();
     }
     
-    private StudyDto.StudyListResponse convertToStudyListResponse(Study study) {
+    private StudyDto.StudyListResponse convertToStudyListResponse(StudyListRow row) {
         return StudyDto.StudyListResponse.builder()
-                .id(study.getId())
-                .title(study.getTitle())
-                .category(study.getCategory())
-                .location(study.getLocation())
-                .maxParticipants(study.getMaxParticipants())
-                .currentParticipants(study.getCurrentParticipants())
-                .status(study.getStatus())
-                .startDate(study.getStartDate())
-                .endDate(study.getEndDate())
-                .studyType(study.getStudyType())
-                .leader(convertToUserInfo(study.getLeader()))
-                .createdAt(study.getCreatedAt())
+                .id(row.getId())
+                .title(row.getTitle())
+                .category(row.getCategory())
+                .location(row.getLocation())
+                .maxParticipants(row.getMaxParticipants())
+                .currentParticipants(row.getCurrentParticipants())
+                .status(row.getStatus())
+                .startDate(row.getStartDate())
+                .endDate(row.getEndDate())
+                .studyType(row.getStudyType())
+                .latitude(row.getLatitude())
+                .longitude(row.getLongitude())
+                .leader(UserDto.UserInfo.builder()
+                        .id(row.getLeaderId())
+                        .email(row.getLeaderEmail())
+                        .name(row.getLeaderName())
+                        .nickname(row.getLeaderNickname())
+                        .birthDate(row.getLeaderBirthDate())
+                        .occupation(row.getLeaderOccupation())
+                        .educationLevel(row.getLeaderEducationLevel())
+                        .status(row.getLeaderStatus())
+                        .build())
+                .createdAt(row.getCreatedAt())
                 .build();
     }
     
@@ -378,6 +914,20 @@ public class StudyService {
                 .build();
     }
     
+    private StudyDto.WaitlistResponse convertToWaitlistResponse(StudyWaitlistEntry entry) {
+        Long studyId = entry.getStudy().getId();
+        return StudyDto.WaitlistResponse.builder()
+                .studyId(studyId)
+                .position(studyWaitlistRepository.countByStudyIdAndIdLessThanEqual(studyId, entry.getId()))
+                .waitingCount(studyWaitlistRepository.countByStudyId(studyId))
+                .requestedAt(entry.getCreatedAt())
+                .build();
+    }
+    
+    private String weakETag(Object... parts) {
+        return "W/\"" + DigestUtils.md5DigestAsHex(Arrays.deepToString(parts).getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+    
     // 사용자 참여 상태 확인
     public boolean isUserJoined(Long studyId, Long userId) {
         return studyMemberRepository.findByStudyIdAndUserId(studyId, userId)
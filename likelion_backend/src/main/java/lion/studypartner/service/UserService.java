@@ -2,8 +2,10 @@ package lion.studypartner.service;
 
 import lion.studypartner.dto.UserDto;
 import lion.studypartner.entity.User;
+import lion.studypartner.event.UserChangedEvent;
 import lion.studypartner.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +18,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final ApplicationEventPublisher eventPublisher;
     
     public UserDto.ApiResponse<UserDto.LoginResponse> register(UserDto.RegisterRequest request) {
         // 이메일 중복 확인
@@ -42,7 +45,7 @@ public class UserService {
         User savedUser = userRepository.save(user);
         
         // JWT 토큰 생성
-        String token = jwtService.generateToken(savedUser.getEmail());
+        String token = jwtService.generateToken(savedUser);
         
         // 응답 생성
         UserDto.UserInfo userInfo = new UserDto.UserInfo(
@@ -70,7 +73,7 @@ public class UserService {
         }
         
         // JWT 토큰 생성
-        String token = jwtService.generateToken(user.getEmail());
+        String token = jwtService.generateToken(user);
         
         // 응답 생성
         UserDto.UserInfo userInfo = new UserDto.UserInfo(
@@ -110,7 +113,48 @@ public class UserService {
         
         return UserDto.ApiResponse.success(userInfo);
     }
-
+    
+    public UserDto.ApiResponse<UserDto.UserInfo> updateUser(Long userId, UserDto.UpdateRequest request) {
+        User user = userRepository.findById(userId)
+            .orElse(null);
+        
+        if (user == null) {
+            return UserDto.ApiResponse.error("사용자를 찾을 수 없습니다.");
+        }
+        
+        // 닉네임 중복 확인 (본인 닉네임 그대로면 통과)
+        if (request.getNickname() != null && !request.getNickname().equals(user.getNickname())
+                && userRepository.existsByNickname(request.getNickname())) {
+            return UserDto.ApiResponse.error("이미 존재하는 닉네임입니다.");
+        }
+        
+        if (request.getName() != null) {
+            user.setName(request.getName());
+        }
+        if (request.getNickname() != null) {
+            user.setNickname(request.getNickname());
+        }
+        if (request.getBirthDate() != null) {
+            user.setBirthDate(request.getBirthDate());
+        }
+        if (request.getOccupation() != null) {
+            user.setOccupation(request.getOccupation());
+        }
+        if (request.getEducationLevel() != null) {
+            user.setEducationLevel(request.getEducationLevel());
+        }
+        if (request.getStatus() != null) {
+            user.setStatus(request.getStatus());
+        }
+        
+        User updatedUser = userRepository.save(user);
+        
+        // 스터디 카드에 복사된 리더 정보 동기화
+        eventPublisher.publishEvent(UserChangedEvent.from(updatedUser));
+        
+        return UserDto.ApiResponse.success("프로필이 수정되었습니다.", UserDto.UserInfo.from(updatedUser));
+    }
+    
     public String extractEmailFromToken(String token) {
         return jwtService.extractEmail(token);
     }
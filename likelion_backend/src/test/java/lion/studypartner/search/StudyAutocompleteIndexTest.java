@@ -0,0 +1,96 @@
+package lion.studypartner.search;
+
+import lion.studypartner.event.StudySnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static lion.studypartner.search.StudySnapshots.study;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 자동완성 트라이가 제목/단어 시작 접두사로 찾고 참여자 수 순위를 갱신에 맞춰 유지하는지 확인
+class StudyAutocompleteIndexTest {
+    
+    private StudyAutocompleteIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        index = new StudyAutocompleteIndex();
+        index.index(titled(1, "스프링 부트 입문", "programming", 3));
+        index.index(titled(2, "Spring Batch 실전", "programming", 5));
+        index.index(titled(3, "토익 스피킹", "language", 8));
+        index.rebuildCompleted();
+    }
+    
+    @Test
+    void matchesTitleAndWordPrefixesOnly() {
+        assertEquals(List.of(1L), ids("스프"));
+        assertEquals(List.of(1L), ids("부트"));
+        assertEquals(List.of(2L), ids("spring b"));
+        // 단어 중간에서 시작하는 문자열은 찾지 않음
+        assertEquals(List.of(), ids("프링"));
+        assertEquals(List.of(3L, 1L), ids("스"));
+        assertEquals(List.of(), ids("  "));
+    }
+    
+    @Test
+    void suggestsCategoriesByParticipants() {
+        index.index(titled(4, "파이썬", "project", 1));
+        assertEquals(List.of("programming", "project"), index.suggest("pro", 10).getCategories());
+        assertEquals(List.of("language"), index.suggest("LAN", 10).getCategories());
+    }
+    
+    @Test
+    void keepsRankingWhenParticipantsChange() {
+        // 노드 캐시(상위 10개)보다 많은 스터디로 캐시 밖 순위 변동까지 확인
+        for (int i = 10; i < 22; i++) {
+            index.index(titled(i, "자바 " + i, "programming", i));
+        }
+        assertEquals(List.of(21L, 20L, 19L, 18L, 17L, 16L, 15L, 14L, 13L, 12L), ids("자바"));
+        
+        index.index(titled(21, "자바 21", "programming", 0));
+        assertEquals(List.of(20L, 19L, 18L, 17L, 16L, 15L, 14L, 13L, 12L, 11L), ids("자바"));
+        
+        index.index(titled(10, "자바 10", "programming", 100));
+        assertEquals(List.of(10L, 20L, 19L), ids("자바", 3));
+        
+        // 참여자 수가 같으면 최신 스터디 우선
+        index.index(titled(19, "자바 19", "programming", 20));
+        assertEquals(List.of(10L, 20L, 19L), ids("자바", 3));
+        index.index(titled(18, "자바 18", "programming", 20));
+        assertEquals(List.of(10L, 20L, 19L, 18L), ids("자바", 4));
+    }
+    
+    @Test
+    void retitleAndRemoveDropOldKeys() {
+        index.index(titled(1, "코틀린 입문", "programming", 3));
+        assertEquals(List.of(), ids("스프"));
+        assertEquals(List.of(1L), ids("코틀"));
+        assertEquals(List.of(1L), ids("입문"));
+        
+        index.remove(3L);
+        assertEquals(List.of(), ids("토익"));
+        assertTrue(index.suggest("lang", 10).getCategories().isEmpty());
+    }
+    
+    private static StudySnapshot titled(long id, String title, String category, int participants) {
+        return study(id, s -> {
+            s.setTitle(title);
+            s.setCategory(category);
+            s.setCurrentParticipants(participants);
+        });
+    }
+    
+    private List<Long> ids(String prefix) {
+        return ids(prefix, StudyAutocompleteIndex.MAX_SUGGESTIONS);
+    }
+    
+    private List<Long> ids(String prefix, int size) {
+        return index.suggest(prefix, size).getStudies().stream()
+                .map(StudyAutocompleteIndex.TitleSuggestion::getStudyId)
+                .collect(Collectors.toList());
+    }
+} 
\ No newline at end of file
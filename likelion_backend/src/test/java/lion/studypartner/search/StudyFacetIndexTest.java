@@ -0,0 +1,108 @@
+package lion.studypartner.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static lion.studypartner.search.StudySnapshots.study;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 패싯 필터 교집합, 값별 개수(자기 패싯 제외), 위치 부분 일치, 재색인/삭제 확인
+class StudyFacetIndexTest {
+    
+    private StudyFacetIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        index = new StudyFacetIndex();
+        index.index(study(1, s -> s.setLocation("서울 강남구")));
+        index.index(study(2, s -> {
+            s.setLocation("서울 마포구");
+            s.setCategory("language");
+        }));
+        index.index(study(3, s -> {
+            s.setLocation("부산 해운대구");
+            s.setStudyType("online");
+        }));
+        // 시퀀스 ID 간격이 커도 색인 가능
+        index.index(study(1_000_000_000L, s -> s.setLocation("서울 강남구")));
+        index.rebuildCompleted();
+    }
+    
+    @Test
+    void filtersIntersectAndReturnNewestFirst() {
+        StudyFacetIndex.FacetResult result = index.search(Map.of(StudyFacetIndex.CATEGORY, "programming"), null);
+        assertEquals(List.of(1_000_000_000L, 3L, 1L), result.getIds());
+        
+        result = index.search(Map.of(
+                StudyFacetIndex.CATEGORY, "programming",
+                StudyFacetIndex.STUDY_TYPE, "online"), null);
+        assertEquals(List.of(3L), result.getIds());
+    }
+    
+    @Test
+    void locationFilterMatchesSubstringLikeSearch() {
+        StudyFacetIndex.FacetResult result = index.search(Map.of(StudyFacetIndex.LOCATION, "서울"), null);
+        assertEquals(List.of(1_000_000_000L, 2L, 1L), result.getIds());
+        assertTrue(index.search(Map.of(StudyFacetIndex.LOCATION, "대전"), null).getIds().isEmpty());
+    }
+    
+    @Test
+    void countsIgnoreOwnFacetSelection() {
+        StudyFacetIndex.FacetResult result = index.search(Map.of(StudyFacetIndex.CATEGORY, "language"), null);
+        assertEquals(List.of(2L), result.getIds());
+        // 카테고리 개수는 카테고리 필터를 빼고 계산
+        assertEquals(Map.of("programming", 3, "language", 1), result.getCounts().get(StudyFacetIndex.CATEGORY));
+        // 다른 패싯 개수는 카테고리 필터 적용
+        assertEquals(Map.of("서울 마포구", 1), result.getCounts().get(StudyFacetIndex.LOCATION));
+        // 개수 내림차순
+        assertEquals("programming", result.getCounts().get(StudyFacetIndex.CATEGORY).keySet().iterator().next());
+    }
+    
+    @Test
+    void restrictToLimitsBaseSet() {
+        StudyFacetIndex.FacetResult result = index.search(Map.of(), Set.of(2L, 3L, 99L));
+        assertEquals(List.of(3L, 2L), result.getIds());
+        assertEquals(Map.of("offline", 1, "online", 1), result.getCounts().get(StudyFacetIndex.STUDY_TYPE));
+    }
+    
+    @Test
+    void filterKeepsCandidatesMatchingAllFilters() {
+        assertEquals(Set.of(1L, 1_000_000_000L), index.filter(Map.of(
+                StudyFacetIndex.LOCATION, "강남",
+                StudyFacetIndex.CATEGORY, "programming"), List.of(1L, 2L, 3L, 1_000_000_000L)));
+        assertEquals(Set.of(2L), index.filter(Map.of(StudyFacetIndex.LOCATION, "서울"), List.of(2L, 3L, 42L)));
+    }
+    
+    @Test
+    void filterSortKeysFollowsReindexedParticipants() {
+        index.index(study(1, s -> {
+            s.setLocation("서울 강남구");
+            s.setCurrentParticipants(7);
+        }));
+        index.remove(1_000_000_000L);
+        
+        Map<Long, Integer> participants = index.filterSortKeys(Map.of(StudyFacetIndex.LOCATION, "서울"),
+                        List.of(1L, 2L, 3L, 1_000_000_000L)).stream()
+                .collect(Collectors.toMap(StudyFacetIndex.SortKey::getId, StudyFacetIndex.SortKey::getCurrentParticipants));
+        assertEquals(Map.of(1L, 7, 2L, 1), participants);
+    }
+    
+    @Test
+    void reindexMovesStudyAndRemoveDropsEmptyValues() {
+        index.index(study(3, s -> s.setLocation("서울 송파구")));
+        assertEquals(List.of(1_000_000_000L, 3L, 2L, 1L),
+                index.search(Map.of(StudyFacetIndex.LOCATION, "서울"), null).getIds());
+        
+        index.remove(2L);
+        StudyFacetIndex.FacetResult result = index.search(Map.of(), null);
+        assertEquals(List.of(1_000_000_000L, 3L, 1L), result.getIds());
+        assertEquals(Map.of("programming", 3), result.getCounts().get(StudyFacetIndex.CATEGORY));
+        assertTrue(index.search(Map.of(StudyFacetIndex.CATEGORY, "language"), null).getIds().isEmpty());
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,78 @@
+package lion.studypartner.search;
+
+import lion.studypartner.event.StudySnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static lion.studypartner.search.StudySnapshots.study;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 격자 인덱스 반경 검색 결과가 실제 거리 기준으로 걸러지고 가까운 순인지 확인
+class StudyGeoIndexTest {
+    
+    // 서울 시청
+    private static final double LATITUDE = 37.5663;
+    private static final double LONGITUDE = 126.9779;
+    
+    private StudyGeoIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        index = new StudyGeoIndex();
+        index.index(at(1, 37.5665, 126.9780));  // 시청 바로 옆
+        index.index(at(2, 37.5547, 126.9707));  // 서울역 (약 1.4km)
+        index.index(at(3, 37.4979, 127.0276));  // 강남역 (약 8.8km)
+        index.index(at(4, 35.1796, 129.0756));  // 부산
+        index.index(study(5, s -> s.setStudyType("online")));  // 좌표 없음
+        index.rebuildCompleted();
+    }
+    
+    @Test
+    void returnsHitsWithinRadiusNearestFirst() {
+        List<StudyGeoIndex.GeoHit> hits = index.findWithin(LATITUDE, LONGITUDE, 3.0);
+        assertEquals(List.of(1L, 2L), ids(hits));
+        assertTrue(hits.get(0).getDistanceKm() < 0.1);
+        
+        assertEquals(List.of(1L, 2L, 3L), ids(index.findWithin(LATITUDE, LONGITUDE, 10.0)));
+    }
+    
+    @Test
+    void excludesCornerOfBoundingCells() {
+        // 격자 범위(정사각형)의 모서리는 반경 밖이므로 제외
+        double offset = 2.5 / 111.0;
+        index.index(at(6, LATITUDE + offset, LONGITUDE + offset / Math.cos(Math.toRadians(LATITUDE))));
+        assertEquals(List.of(1L, 2L), ids(index.findWithin(LATITUDE, LONGITUDE, 3.0)));
+    }
+    
+    @Test
+    void reindexMovesAndRemoveDrops() {
+        index.index(at(4, 37.5660, 126.9775));
+        assertEquals(List.of(1L, 4L, 2L), ids(index.findWithin(LATITUDE, LONGITUDE, 3.0)));
+        
+        index.remove(1L);
+        index.index(study(2, s -> s.setStudyType("online")));
+        assertEquals(List.of(4L), ids(index.findWithin(LATITUDE, LONGITUDE, 3.0)));
+    }
+    
+    @Test
+    void haversineDistanceMatchesKnownValue() {
+        // 서울 시청 - 부산 시청 약 325km
+        double distance = StudyGeoIndex.distanceKm(LATITUDE, LONGITUDE, 35.1796, 129.0756);
+        assertTrue(distance > 320 && distance < 330, "distance=" + distance);
+    }
+    
+    private static StudySnapshot at(long id, double latitude, double longitude) {
+        return study(id, s -> {
+            s.setLatitude(latitude);
+            s.setLongitude(longitude);
+        });
+    }
+    
+    private List<Long> ids(List<StudyGeoIndex.GeoHit> hits) {
+        return hits.stream().map(StudyGeoIndex.GeoHit::getStudyId).collect(Collectors.toList());
+    }
+} 
\ No newline at end of file
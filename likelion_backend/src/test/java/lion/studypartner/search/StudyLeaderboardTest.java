@@ -0,0 +1,71 @@
+package lion.studypartner.search;
+
+import lion.studypartner.event.StudySnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static lion.studypartner.search.StudySnapshots.study;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 리더보드가 참여자 수 변화에 맞춰 전체/카테고리별 순위를 유지하는지 확인
+class StudyLeaderboardTest {
+    
+    private StudyLeaderboard leaderboard;
+    
+    @BeforeEach
+    void setUp() {
+        leaderboard = new StudyLeaderboard();
+        leaderboard.index(ranked(1, "programming", 5));
+        leaderboard.index(ranked(2, "language", 8));
+        leaderboard.index(ranked(3, "programming", 3));
+        leaderboard.rebuildCompleted();
+    }
+    
+    @Test
+    void ranksGloballyAndByCategory() {
+        assertEquals(List.of(2L, 1L, 3L), leaderboard.top(null, 10));
+        assertEquals(List.of(1L, 3L), leaderboard.top("programming", 10));
+        assertEquals(List.of(2L), leaderboard.top(null, 1));
+        assertEquals(List.of(), leaderboard.top("design", 10));
+    }
+    
+    @Test
+    void reranksOnJoinAndCategoryChange() {
+        leaderboard.index(ranked(3, "programming", 9));
+        assertEquals(List.of(3L, 2L, 1L), leaderboard.top(null, 10));
+        assertEquals(List.of(3L, 1L), leaderboard.top("programming", 10));
+        
+        // 참여자 수가 같으면 최신 스터디 우선
+        leaderboard.index(ranked(1, "programming", 9));
+        assertEquals(List.of(3L, 1L, 2L), leaderboard.top(null, 10));
+        
+        leaderboard.index(ranked(1, "language", 9));
+        assertEquals(List.of(3L), leaderboard.top("programming", 10));
+        assertEquals(List.of(1L, 2L), leaderboard.top("language", 10));
+    }
+    
+    @Test
+    void refillsTopListFromBelowCutoff() {
+        for (long id = 10; id < 10 + StudyLeaderboard.MAX_SIZE + 5; id++) {
+            leaderboard.index(ranked(id, "design", 100));
+        }
+        // 상위 목록 밖에 있던 스터디가 빈자리를 채움
+        leaderboard.remove(10L + StudyLeaderboard.MAX_SIZE + 4);
+        assertEquals(StudyLeaderboard.MAX_SIZE, leaderboard.top("design", 100).size());
+        assertEquals(List.of(10L + StudyLeaderboard.MAX_SIZE + 3), leaderboard.top("design", 1));
+        
+        leaderboard.index(ranked(2, "language", 1000));
+        assertEquals(List.of(2L), leaderboard.top(null, 1));
+        leaderboard.remove(2L);
+        assertEquals(List.of(), leaderboard.top("language", 10));
+    }
+    
+    private static StudySnapshot ranked(long id, String category, int participants) {
+        return study(id, s -> {
+            s.setCategory(category);
+            s.setCurrentParticipants(participants);
+        });
+    }
+} 
\ No newline at end of file
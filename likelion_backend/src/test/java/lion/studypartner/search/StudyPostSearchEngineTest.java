@@ -0,0 +1,63 @@
+package lion.studypartner.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// BM25F 랭킹 순서, 스터디 범위 제한, 삭제 반영 확인 (저장소 없이 색인 메서드만 사용)
+class StudyPostSearchEngineTest {
+    
+    private StudyPostSearchEngine engine;
+    
+    @BeforeEach
+    void setUp() {
+        engine = new StudyPostSearchEngine(null);
+        engine.index(1L, 10L, "회의록", "다음 주 과제는 그래프 탐색입니다");
+        engine.index(2L, 10L, "그래프 탐색 정리", "BFS와 DFS 비교");
+        engine.index(3L, 20L, "그래프 문제 추천", "다른 스터디 게시글");
+        engine.index(4L, 10L, "자료 공유", "강의 링크 모음");
+    }
+    
+    @Test
+    void titleMatchOutranksContentMatch() {
+        List<Long> ids = ids(engine.search("그래프 탐색", 10L));
+        assertEquals(List.of(2L, 1L), ids);
+    }
+    
+    @Test
+    void studyScopeFiltersOtherStudies() {
+        assertEquals(List.of(3L), ids(engine.search("그래프", 20L)));
+        assertEquals(3, engine.search("그래프", null).size());
+    }
+    
+    @Test
+    void equalScoresPreferNewerPosts() {
+        engine.index(5L, 10L, "자료 공유", "강의 링크 모음");
+        assertEquals(List.of(5L, 4L), ids(engine.search("자료 공유", 10L)));
+    }
+    
+    @Test
+    void removeAndReindexUpdatePostings() {
+        engine.remove(2L);
+        assertEquals(List.of(1L), ids(engine.search("그래프 탐색", 10L)));
+        
+        engine.index(1L, 10L, "회의록", "출석 확인");
+        assertTrue(engine.search("탐색", 10L).isEmpty());
+        assertEquals(3, engine.size());
+    }
+    
+    @Test
+    void blankKeywordReturnsNothing() {
+        assertTrue(engine.search("  ", null).isEmpty());
+        assertTrue(engine.search("없는검색어", null).isEmpty());
+    }
+    
+    private List<Long> ids(List<StudyPostSearchEngine.ScoredPost> results) {
+        return results.stream().map(StudyPostSearchEngine.ScoredPost::getPostId).collect(Collectors.toList());
+    }
+} 
\ No newline at end of file
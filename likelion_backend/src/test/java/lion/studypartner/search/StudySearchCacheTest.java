@@ -0,0 +1,118 @@
+package lion.studypartner.search;
+
+import lion.studypartner.dto.StudyDto;
+import lion.studypartner.event.StudyChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static lion.studypartner.search.StudySnapshots.study;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 검색 결과 캐시가 LRU로 제한되고 변경된 스터디에 걸리는 조건만 무효화하는지 확인
+class StudySearchCacheTest {
+    
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10);
+    
+    private StudySearchCache cache;
+    private AtomicInteger loads;
+    
+    @BeforeEach
+    void setUp() {
+        cache = new StudySearchCache(2);
+        loads = new AtomicInteger();
+    }
+    
+    @Test
+    void returnsCachedPageForSameCriteria() {
+        load(category("programming"));
+        load(category("programming"));
+        // 빈 키워드는 조건 없음과 같은 키
+        load(StudyDto.SearchRequest.builder().category("programming").keyword(" ").build());
+        load(category("programming"), PageRequest.of(1, 10));
+        
+        assertEquals(2, loads.get());
+        assertEquals(2L, cache.stats().get("hits"));
+        assertEquals(2L, cache.stats().get("misses"));
+    }
+    
+    @Test
+    void evictsLeastRecentlyUsedEntry() {
+        load(category("programming"));
+        load(category("language"));
+        load(category("programming"));
+        load(category("design"));
+        assertEquals(3, loads.get());
+        
+        // 최근에 조회한 programming은 남고 language가 밀려남
+        load(category("programming"));
+        assertEquals(3, loads.get());
+        load(category("language"));
+        assertEquals(4, loads.get());
+        assertEquals(2L, cache.stats().get("evictions"));
+    }
+    
+    @Test
+    void invalidatesOnlyMatchingCriteria() {
+        load(category("programming"));
+        load(category("language"));
+        
+        // 카테고리가 programming -> design으로 바뀌면 programming 결과만 무효화
+        cache.onStudyChanged(StudyChangedEvent.updated(study(1),
+                study(1, s -> s.setCategory("design"))));
+        load(category("language"));
+        assertEquals(2, loads.get());
+        load(category("programming"));
+        assertEquals(3, loads.get());
+        assertEquals(1L, cache.stats().get("invalidations"));
+    }
+    
+    @Test
+    void doesNotStorePageLoadedBeforeInvalidation() {
+        // 조회 도중 변경이 커밋되면 그 결과는 캐시하지 않음
+        cache.getOrLoad(category("programming"), FIRST_PAGE, () -> {
+            cache.onStudyChanged(StudyChangedEvent.created(study(1)));
+            return page();
+        });
+        load(category("programming"));
+        assertEquals(1, loads.get());
+        assertEquals(0L, cache.stats().get("hits"));
+    }
+    
+    @Test
+    void listVersionMovesOnlyAfterInvalidation() {
+        load(category("programming"));
+        long version = cache.listVersion();
+        
+        cache.onStudyChanged(StudyChangedEvent.created(study(1)));
+        // 버전이 바뀌었으면 해당 조건의 이전 결과는 이미 캐시에 없음
+        assertEquals(version + 1, cache.listVersion());
+        load(category("programming"));
+        assertEquals(2, loads.get());
+    }
+    
+    private void load(StudyDto.SearchRequest request) {
+        load(request, FIRST_PAGE);
+    }
+    
+    private void load(StudyDto.SearchRequest request, Pageable pageable) {
+        cache.getOrLoad(request, pageable, () -> {
+            loads.incrementAndGet();
+            return page();
+        });
+    }
+    
+    private static StudyDto.SearchRequest category(String category) {
+        return StudyDto.SearchRequest.builder().category(category).build();
+    }
+    
+    private static Page<StudyDto.StudyListResponse> page() {
+        return new PageImpl<>(List.of());
+    }
+} 
\ No newline at end of file
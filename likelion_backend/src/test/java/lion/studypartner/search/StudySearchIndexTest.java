@@ -0,0 +1,63 @@
+package lion.studypartner.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static lion.studypartner.search.StudySnapshots.titled;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// n-gram 역색인이 LIKE %keyword% 와 같은 부분 문자열 결과를 대소문자 구분 없이 돌려주는지 확인
+class StudySearchIndexTest {
+    
+    private StudySearchIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        index = new StudySearchIndex();
+        index.index(titled(1, "Spring Boot 스터디", "JPA와 트랜잭션"));
+        index.index(titled(2, "알고리즘 스터디", "매주 spring 문제 풀이"));
+        index.index(titled(3, "영어 회화", "원어민과 대화"));
+        index.rebuildCompleted();
+    }
+    
+    @Test
+    void matchesSubstringInTitleOrDescriptionIgnoringCase() {
+        assertEquals(Set.of(1L, 2L), index.search("SPRING"));
+        assertEquals(Set.of(1L, 2L), index.search("스터디"));
+        assertEquals(Set.of(1L), index.search("트랜잭"));
+        assertEquals(Set.of(3L), index.search("회"));
+    }
+    
+    @Test
+    void bigramCandidatesAreVerifiedAgainstDocument() {
+        // "스터"와 "터디"는 모두 있지만 "스터디디"는 어느 문서에도 없음
+        assertTrue(index.search("스터디디").isEmpty());
+        // 제목 끝과 설명 앞을 이어 붙인 문자열은 일치하지 않음
+        assertTrue(index.search("회화원어").isEmpty());
+        assertTrue(index.search("   ").isEmpty());
+    }
+    
+    @Test
+    void reindexReplacesPostingsAndRemoveDropsDocument() {
+        index.index(titled(1, "Kotlin 스터디", "코루틴"));
+        assertEquals(Set.of(2L), index.search("spring"));
+        assertEquals(Set.of(1L), index.search("kotlin"));
+        
+        index.remove(2L);
+        assertTrue(index.search("spring").isEmpty());
+        assertEquals(Set.of(1L), index.search("스터디"));
+        assertEquals(2, index.size());
+    }
+    
+    @Test
+    void clearResetsReadiness() {
+        assertTrue(index.isReady());
+        index.clear();
+        assertEquals(0, index.size());
+        assertFalse(index.isReady());
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,44 @@
+package lion.studypartner.search;
+
+import lion.studypartner.entity.Study;
+import lion.studypartner.event.StudySnapshot;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+// 인메모리 인덱스 단위 테스트용 스터디 스냅샷 (DB 없이 필요한 필드만 지정)
+final class StudySnapshots {
+    
+    private StudySnapshots() {
+    }
+    
+    static StudySnapshot study(long id, Consumer<Study> customizer) {
+        Study study = new Study();
+        study.setId(id);
+        study.setTitle("스터디 " + id);
+        study.setDescription("설명");
+        study.setCategory("programming");
+        study.setLocation("서울");
+        study.setStudyType("offline");
+        study.setStatus("active");
+        study.setMaxParticipants(10);
+        study.setCurrentParticipants(1);
+        study.setStartDate(LocalDateTime.now().plusDays(7));
+        study.setEndDate(LocalDateTime.now().plusDays(30));
+        study.setCreatedAt(LocalDateTime.now());
+        customizer.accept(study);
+        return StudySnapshot.from(study);
+    }
+    
+    static StudySnapshot study(long id) {
+        return study(id, study -> {
+        });
+    }
+    
+    static StudySnapshot titled(long id, String title, String description) {
+        return study(id, study -> {
+            study.setTitle(title);
+            study.setDescription(description);
+        });
+    }
+} 
\ No newline at end of file
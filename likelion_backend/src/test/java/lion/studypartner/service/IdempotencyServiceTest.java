@@ -0,0 +1,150 @@
+package lion.studypartner.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// 같은 Idempotency-Key 요청이 한 번만 실행되고 같은 응답을 돌려받는지 확인
+class IdempotencyServiceTest {
+    
+    private final IdempotencyService idempotencyService = new IdempotencyService(new ObjectMapper(), 100, 60_000);
+    
+    @Test
+    void repeatedKeyReplaysFirstResponse() {
+        AtomicInteger calls = new AtomicInteger();
+        
+        ResponseEntity<String> first = idempotencyService.execute(1L, "create", "key-1", null,
+                () -> ResponseEntity.ok("study-" + calls.incrementAndGet()));
+        ResponseEntity<String> retry = idempotencyService.execute(1L, "create", "key-1", null,
+                () -> ResponseEntity.ok("study-" + calls.incrementAndGet()));
+        
+        assertEquals(1, calls.get());
+        assertEquals("study-1", retry.getBody());
+        assertNull(first.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        assertEquals("true", retry.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+    }
+    
+    @Test
+    void keysAreScopedByUserAndRequest() {
+        AtomicInteger calls = new AtomicInteger();
+        
+        idempotencyService.execute(1L, "join:1", "key", null, () -> ResponseEntity.ok(calls.incrementAndGet()));
+        idempotencyService.execute(2L, "join:1", "key", null, () -> ResponseEntity.ok(calls.incrementAndGet()));
+        idempotencyService.execute(1L, "join:2", "key", null, () -> ResponseEntity.ok(calls.incrementAndGet()));
+        idempotencyService.execute(1L, "join:2", null, null, () -> ResponseEntity.ok(calls.incrementAndGet()));
+        
+        assertEquals(4, calls.get());
+    }
+    
+    @Test
+    void onlySuccessfulResponsesAreStored() {
+        AtomicInteger calls = new AtomicInteger();
+        
+        idempotencyService.execute(1L, "create", "key", null, () -> {
+            calls.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("error");
+        });
+        // 잠금 대기 시간 초과처럼 400으로 매핑된 일시적 실패도 재시도하면 다시 실행
+        idempotencyService.execute(1L, "create", "key", null, () -> {
+            calls.incrementAndGet();
+            return ResponseEntity.badRequest().body("lock timeout");
+        });
+        ResponseEntity<String> retry = idempotencyService.execute(1L, "create", "key", null, () -> {
+            calls.incrementAndGet();
+            return ResponseEntity.ok("created");
+        });
+        
+        assertEquals(3, calls.get());
+        assertEquals("created", retry.getBody());
+    }
+    
+    @Test
+    void reusedKeyWithDifferentPayloadIsRejected() {
+        AtomicInteger calls = new AtomicInteger();
+        
+        idempotencyService.execute(1L, "create", "key", Map.of("title", "자바"),
+                () -> ResponseEntity.ok(calls.incrementAndGet()));
+        ResponseEntity<Integer> retry = idempotencyService.execute(1L, "create", "key", Map.of("title", "자바"),
+                () -> ResponseEntity.ok(calls.incrementAndGet()));
+        assertThrows(IdempotencyService.KeyReusedException.class, () ->
+                idempotencyService.execute(1L, "create", "key", Map.of("title", "파이썬"),
+                        () -> ResponseEntity.ok(calls.incrementAndGet())));
+        
+        assertEquals(1, calls.get());
+        assertEquals(1, retry.getBody());
+    }
+    
+    @Test
+    void errorReleasesWaitingDuplicates() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> owner = executor.submit(() -> idempotencyService.execute(1L, "join:1", "key", null, () -> {
+                started.countDown();
+                sleep(500);
+                throw new StackOverflowError();
+            }));
+            started.await();
+            
+            // 먼저 온 요청이 Error로 끝나도 기다리던 요청은 예외로 풀려나고, 다음 재시도는 새로 실행됨
+            assertThrows(RuntimeException.class, () ->
+                    idempotencyService.execute(1L, "join:1", "key", null, () -> ResponseEntity.ok("joined")));
+            assertThrows(Exception.class, () -> owner.get(10, TimeUnit.SECONDS));
+            assertEquals("joined", idempotencyService.execute(1L, "join:1", "key", null,
+                    () -> ResponseEntity.ok("joined")).getBody());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    void concurrentDuplicatesRunOnce() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<ResponseEntity<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return idempotencyService.execute(1L, "join:1", "key", null, () -> {
+                        calls.incrementAndGet();
+                        sleep(100);
+                        return ResponseEntity.ok("joined");
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<ResponseEntity<String>> future : futures) {
+                assertEquals("joined", future.get(10, TimeUnit.SECONDS).getBody());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        assertEquals(1, calls.get());
+    }
+    
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+} 
\ No newline at end of file
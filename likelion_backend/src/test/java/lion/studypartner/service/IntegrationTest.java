@@ -0,0 +1,26 @@
+package lion.studypartner.service;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// DB를 쓰는 서비스 테스트 공통 설정 (속성이 같아야 테스트 클래스끼리 스프링 컨텍스트를 재사용함)
+// 스케줄 작업은 테스트가 직접 호출할 때만 돌도록 늦추고, 보관 정리는 적은 데이터로 청크 동작을 볼 수 있게 작게 잡는다.
+// 같은 DB를 공유하므로 테스트마다 고유한 이메일을 쓰고 자기가 만든 id로만 검증한다.
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:servicetest;LOCK_TIMEOUT=10000",
+        "notification.outbox.initial-delay-ms=3600000",
+        "study.recommendation.initial-delay-ms=3600000",
+        "retention.initial-delay-ms=3600000",
+        "retention.chunk-size=2",
+        "retention.pause-ms=0"
+})
+@Import(TestFixtures.class)
+@interface IntegrationTest {
+} 
\ No newline at end of file
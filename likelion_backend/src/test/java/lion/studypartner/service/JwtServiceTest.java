@@ -0,0 +1,56 @@
+package lion.studypartner.service;
+
+import lion.studypartner.config.UserPrincipal;
+import lion.studypartner.entity.User;
+import lion.studypartner.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// 검증된 토큰 캐시가 있어도 차단되거나 삭제된 사용자는 다음 요청부터 인증되지 않는지 확인
+@IntegrationTest
+class JwtServiceTest {
+    
+    @Autowired
+    private JwtService jwtService;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private TestFixtures fixtures;
+    
+    @Test
+    void cachedTokenStopsWorkingWhenUserIsBlocked() {
+        User user = fixtures.saveUser("jwt-blocked@test.com");
+        String token = jwtService.generateToken(user);
+        
+        UserPrincipal principal = jwtService.authenticate(token);
+        assertNotNull(principal);
+        assertEquals(user.getId(), principal.getId());
+        // 캐시에서 반환
+        assertNotNull(jwtService.authenticate(token));
+        
+        user.setStatus("banned");
+        userRepository.save(user);
+        assertNull(jwtService.authenticate(token));
+        
+        // 재학 상태 같은 일반 값은 영향 없음
+        user.setStatus("재학");
+        userRepository.save(user);
+        assertNotNull(jwtService.authenticate(token));
+    }
+    
+    @Test
+    void cachedTokenStopsWorkingWhenUserIsDeleted() {
+        User user = fixtures.saveUser("jwt-deleted@test.com");
+        String token = jwtService.generateToken(user);
+        assertNotNull(jwtService.authenticate(token));
+        
+        userRepository.delete(user);
+        assertNull(jwtService.authenticate(token));
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,63 @@
+package lion.studypartner.service;
+
+import lion.studypartner.entity.Notification;
+import lion.studypartner.entity.Study;
+import lion.studypartner.entity.User;
+import lion.studypartner.repository.NotificationRepository;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 스터디 전체 알림이 멤버 수와 무관하게 멤버 조회 한 번 + 배치 INSERT로 끝나는지 확인
+@IntegrationTest
+class NotificationFanOutTest {
+    
+    private static final int MEMBER_COUNT = 200;
+    private static final int BATCH_SIZE = 50;
+    
+    @Autowired
+    private NotificationService notificationService;
+    
+    @Autowired
+    private NotificationRepository notificationRepository;
+    
+    @Autowired
+    private TestFixtures fixtures;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Test
+    void studyUpdateFansOutWithBatchedInserts() {
+        User leader = fixtures.saveUser("fanout-leader@test.com");
+        Study study = fixtures.saveStudy(leader, MEMBER_COUNT + 10, MEMBER_COUNT + 1);
+        fixtures.saveMember(study, leader, "leader", "active");
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            fixtures.saveMember(study, fixtures.saveUser("fanout-member" + i + "@test.com"), "member", "active");
+        }
+        // 탈퇴한 멤버와 예전 데이터의 대문자 리더 역할도 알림 대상이 아님
+        fixtures.saveMember(study, fixtures.saveUser("fanout-left@test.com"), "member", "inactive");
+        fixtures.saveMember(study, fixtures.saveUser("fanout-legacy-leader@test.com"), "LEADER", "active");
+        
+        Statistics statistics = fixtures.statistics();
+        statistics.clear();
+        Integer created = transactionTemplate.execute(status ->
+                notificationService.createStudyUpdateNotification(study.getId()));
+        long statements = statistics.getPrepareStatementCount();
+        
+        assertEquals(MEMBER_COUNT, created);
+        List<Notification> notifications = notificationRepository.findByStudyIdOrderByCreatedAtDesc(study.getId());
+        assertEquals(MEMBER_COUNT, notifications.size());
+        assertEquals(0, notificationRepository.countByUserIdAndStatus(leader.getId(), "unread"));
+        
+        // 스터디 조회 + 멤버 조회 + 50건마다 시퀀스 조회/INSERT 한 번씩 (여유분 포함)
+        assertTrue(statements <= 2 + 2 * (MEMBER_COUNT / BATCH_SIZE + 1),
+                "SQL " + statements + "회");
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,133 @@
+package lion.studypartner.service;
+
+import lion.studypartner.entity.Notification;
+import lion.studypartner.entity.User;
+import lion.studypartner.repository.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 알림 1만 건 삽입 처리량 비교 (./gradlew benchmark 로 실행, 기본 test 태스크에서는 제외)
+// 행 단위: INSERT마다 flush해 IDENTITY 방식처럼 행마다 한 번씩 왕복
+// 배치: 시퀀스 ID(allocationSize 50) + hibernate.jdbc.batch_size 50으로 모아서 전송
+@Tag("benchmark")
+@IntegrationTest
+@Slf4j
+@TestPropertySource(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.lion.studypartner=INFO"
+})
+class NotificationInsertBenchmarkTest {
+    
+    private static final int ROWS = 10_000;
+    private static final int WARM_UP_ROWS = 1_000;
+    private static final int BATCH_SIZE = 50;
+    
+    @Autowired
+    private NotificationRepository notificationRepository;
+    
+    @Autowired
+    private TestFixtures fixtures;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Test
+    void batchedInsertsOutperformRowByRowInserts() {
+        Long userId = fixtures.saveUser("benchmark@test.com").getId();
+        
+        // JIT/커넥션 풀 예열
+        insertRowByRow(userId, WARM_UP_ROWS);
+        insertBatched(userId, WARM_UP_ROWS);
+        
+        Result rowByRow = insertRowByRow(userId, ROWS);
+        Result batched = insertBatched(userId, ROWS);
+        
+        log.info("[benchmark] 행 단위 INSERT: {}", rowByRow);
+        log.info("[benchmark] 배치 INSERT:   {}", batched);
+        log.info("[benchmark] 처리량 {}배", String.format("%.1f", batched.rowsPerSecond() / rowByRow.rowsPerSecond()));
+        
+        // 배치 전송은 50건마다 INSERT 한 번 + 시퀀스 조회 한 번 (여유분 포함)
+        assertTrue(rowByRow.statements >= ROWS);
+        assertTrue(batched.statements <= 3 * (ROWS / BATCH_SIZE));
+    }
+    
+    // 한 건씩 persist 후 즉시 flush
+    private Result insertRowByRow(Long userId, int rows) {
+        return measure(rows, () -> transactionTemplate.executeWithoutResult(status -> {
+            User user = entityManager.getReference(User.class, userId);
+            for (int i = 0; i < rows; i++) {
+                entityManager.persist(newNotification(user, i));
+                entityManager.flush();
+            }
+            entityManager.clear();
+        }));
+    }
+    
+    // persist를 모아 두고 배치 크기마다 flush/clear
+    private Result insertBatched(Long userId, int rows) {
+        return measure(rows, () -> transactionTemplate.executeWithoutResult(status -> {
+            User user = entityManager.getReference(User.class, userId);
+            for (int i = 0; i < rows; i++) {
+                entityManager.persist(newNotification(user, i));
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    user = entityManager.getReference(User.class, userId);
+                }
+            }
+        }));
+    }
+    
+    private Result measure(int rows, Runnable insert) {
+        notificationRepository.deleteAllInBatch();
+        Statistics statistics = fixtures.statistics();
+        statistics.clear();
+        long startedAt = System.nanoTime();
+        insert.run();
+        long elapsedNanos = System.nanoTime() - startedAt;
+        return new Result(rows, elapsedNanos, statistics.getPrepareStatementCount());
+    }
+    
+    private Notification newNotification(User user, int index) {
+        Notification notification = new Notification();
+        notification.setUser(user);
+        notification.setTitle("벤치마크 알림");
+        notification.setMessage("알림 " + index);
+        notification.setType("study_update");
+        return notification;
+    }
+    
+    private static class Result {
+        private final int rows;
+        private final long elapsedNanos;
+        private final long statements;
+        
+        private Result(int rows, long elapsedNanos, long statements) {
+            this.rows = rows;
+            this.elapsedNanos = elapsedNanos;
+            this.statements = statements;
+        }
+        
+        private double rowsPerSecond() {
+            return rows / (elapsedNanos / 1_000_000_000.0);
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("%d건, %dms, %.0f건/초, SQL %d회",
+                    rows, elapsedNanos / 1_000_000, rowsPerSecond(), statements);
+        }
+    }
+} 
\ No newline at end of file
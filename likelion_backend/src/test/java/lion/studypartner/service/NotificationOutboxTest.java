@@ -0,0 +1,108 @@
+package lion.studypartner.service;
+
+import lion.studypartner.entity.OutboxEvent;
+import lion.studypartner.entity.User;
+import lion.studypartner.repository.NotificationRepository;
+import lion.studypartner.repository.OutboxEventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 참여/탈퇴 알림이 요청 트랜잭션 밖에서 아웃박스 디스패처로 생성되는지 확인
+@IntegrationTest
+class NotificationOutboxTest {
+    
+    @Autowired
+    private StudyService studyService;
+    
+    @Autowired
+    private NotificationOutbox notificationOutbox;
+    
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    
+    @Autowired
+    private NotificationRepository notificationRepository;
+    
+    @Autowired
+    private TestFixtures fixtures;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Test
+    void joinAndLeaveNotificationsAreCreatedByDispatcher() {
+        User leader = fixtures.saveUser("outbox-leader@test.com");
+        User member = fixtures.saveUser("outbox-member@test.com");
+        Long studyId = fixtures.saveStudyLedBy(leader, 10).getId();
+        
+        studyService.joinStudy(studyId, member.getId());
+        studyService.leaveStudy(studyId, member.getId());
+        
+        // 요청 트랜잭션에서는 이벤트만 기록됨
+        List<OutboxEvent> events = eventsForStudy(studyId);
+        assertEquals(List.of(NotificationOutbox.STUDY_JOIN, NotificationOutbox.STUDY_LEAVE),
+                events.stream().map(OutboxEvent::getType).collect(Collectors.toList()));
+        assertEquals(0, notificationRepository.countByUserIdAndStatus(leader.getId(), "unread"));
+        
+        notificationOutbox.dispatch();
+        
+        assertEquals(2, notificationRepository.countByUserIdAndStatus(leader.getId(), "unread"));
+        eventsForStudy(studyId).forEach(event -> {
+            assertEquals("processed", event.getStatus());
+            assertNotNull(event.getProcessedAt());
+        });
+        
+        // 다시 처리해도 알림이 중복 생성되지 않음
+        notificationOutbox.dispatch();
+        assertEquals(2, notificationRepository.countByUserIdAndStatus(leader.getId(), "unread"));
+    }
+    
+    @Test
+    void eventForDeletedStudyIsSkippedWithoutRetry() {
+        User user = fixtures.saveUser("outbox-skip@test.com");
+        transactionTemplate.executeWithoutResult(status ->
+                notificationOutbox.append(NotificationOutbox.STUDY_JOIN, -1L, user.getId()));
+        
+        notificationOutbox.dispatch();
+        
+        // 재시도해도 성공할 수 없으므로 시도 횟수를 늘리지 않고 바로 종료
+        OutboxEvent event = eventsForStudy(-1L).get(0);
+        assertEquals("skipped", event.getStatus());
+        assertEquals(0, event.getAttempts());
+        assertNotNull(event.getLastError());
+        assertNotNull(event.getProcessedAt());
+        assertTrue((Long) notificationOutbox.stats().get("skipped") >= 1);
+    }
+    
+    @Test
+    void failedEventIsScheduledForRetry() {
+        User user = fixtures.saveUser("outbox-retry@test.com");
+        Long studyId = fixtures.saveStudyLedBy(user, 10).getId();
+        transactionTemplate.executeWithoutResult(status ->
+                notificationOutbox.append("unknown_type", studyId, user.getId()));
+        
+        notificationOutbox.dispatch();
+        
+        OutboxEvent event = eventsForStudy(studyId).get(0);
+        assertEquals("pending", event.getStatus());
+        assertEquals(1, event.getAttempts());
+        assertNotNull(event.getLastError());
+        assertTrue(event.getNextAttemptAt().isAfter(LocalDateTime.now()));
+    }
+    
+    private List<OutboxEvent> eventsForStudy(Long studyId) {
+        return outboxEventRepository.findAll().stream()
+                .filter(event -> event.getStudyId().equals(studyId))
+                .sorted((a, b) -> a.getId().compareTo(b.getId()))
+                .collect(Collectors.toList());
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,137 @@
+package lion.studypartner.service;
+
+import lion.studypartner.entity.Notification;
+import lion.studypartner.entity.OutboxEvent;
+import lion.studypartner.entity.Study;
+import lion.studypartner.entity.StudyPost;
+import lion.studypartner.entity.User;
+import lion.studypartner.repository.NotificationRepository;
+import lion.studypartner.repository.OutboxEventRepository;
+import lion.studypartner.repository.StudyPostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 보관 기간이 지난 행만 청크 단위로 삭제되고 결과가 집계되는지 확인
+@IntegrationTest
+class RetentionServiceTest {
+    
+    @Autowired
+    private RetentionService retentionService;
+    
+    @Autowired
+    private NotificationRepository notificationRepository;
+    
+    @Autowired
+    private StudyPostRepository studyPostRepository;
+    
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    
+    @Autowired
+    private TestFixtures fixtures;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Test
+    void purgeRemovesOnlyExpiredRowsInChunks() {
+        User user = fixtures.saveUser("retention@test.com");
+        Study study = fixtures.saveStudy(user, 10, 1);
+        LocalDateTime expired = LocalDateTime.now().minusDays(60);
+        
+        // 알림: 오래된 5건(청크 2건씩 3번) + 최근 1건
+        List<Long> oldNotifications = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            oldNotifications.add(saveNotification(user).getId());
+        }
+        Long recentNotification = saveNotification(user).getId();
+        backdate("UPDATE Notification n SET n.createdAt = :date WHERE n.id IN :ids", expired, oldNotifications);
+        
+        // 게시글: 오래전에 삭제된 글만 정리 (활성 글이나 최근 삭제된 글은 유지)
+        Long oldDeletedPost = savePost(study, user, "deleted").getId();
+        Long oldActivePost = savePost(study, user, "active").getId();
+        Long recentDeletedPost = savePost(study, user, "deleted").getId();
+        backdate("UPDATE StudyPost p SET p.updatedAt = :date WHERE p.id IN :ids", expired,
+                List.of(oldDeletedPost, oldActivePost));
+        
+        // 아웃박스: 처리 완료된 오래된 이벤트만 정리
+        Long processedEvent = saveEvent(study, user, "processed", expired).getId();
+        Long pendingEvent = saveEvent(study, user, "pending", null).getId();
+        
+        retentionService.purge();
+        
+        oldNotifications.forEach(id -> assertFalse(notificationRepository.existsById(id)));
+        assertTrue(notificationRepository.existsById(recentNotification));
+        assertFalse(studyPostRepository.existsById(oldDeletedPost));
+        assertTrue(studyPostRepository.existsById(oldActivePost));
+        assertTrue(studyPostRepository.existsById(recentDeletedPost));
+        assertFalse(outboxEventRepository.existsById(processedEvent));
+        assertTrue(outboxEventRepository.existsById(pendingEvent));
+        
+        Map<String, Object> stats = retentionService.stats();
+        assertEquals(5L, lastRemoved(stats, "notifications"));
+        assertEquals(1L, lastRemoved(stats, "deletedPosts"));
+        assertEquals(1L, lastRemoved(stats, "outboxEvents"));
+        
+        // 다시 실행하면 지울 것이 없음
+        retentionService.purge();
+        assertEquals(0L, lastRemoved(retentionService.stats(), "notifications"));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private long lastRemoved(Map<String, Object> stats, String target) {
+        return (Long) ((Map<String, Object>) stats.get(target)).get("lastRemoved");
+    }
+    
+    // 감사 필드는 저장 시 현재 시각으로 채워지므로 저장 후 시각을 직접 변경
+    private void backdate(String query, LocalDateTime date, List<Long> ids) {
+        transactionTemplate.executeWithoutResult(status -> entityManager.createQuery(query)
+                .setParameter("date", date)
+                .setParameter("ids", ids)
+                .executeUpdate());
+    }
+    
+    private Notification saveNotification(User user) {
+        Notification notification = new Notification();
+        notification.setUser(user);
+        notification.setTitle("보관 테스트");
+        notification.setMessage("알림");
+        notification.setType("study_update");
+        return notificationRepository.save(notification);
+    }
+    
+    private StudyPost savePost(Study study, User author, String status) {
+        StudyPost post = new StudyPost();
+        post.setStudy(study);
+        post.setAuthor(author);
+        post.setTitle("보관 테스트");
+        post.setContent("내용");
+        post.setStatus(status);
+        return studyPostRepository.save(post);
+    }
+    
+    private OutboxEvent saveEvent(Study study, User user, String status, LocalDateTime processedAt) {
+        OutboxEvent event = new OutboxEvent();
+        event.setType(NotificationOutbox.STUDY_JOIN);
+        event.setStudyId(study.getId());
+        event.setUserId(user.getId());
+        event.setStatus(status);
+        event.setNextAttemptAt(LocalDateTime.now().plusDays(1));
+        event.setProcessedAt(processedAt);
+        return outboxEventRepository.save(event);
+    }
+} 
\ No newline at end of file
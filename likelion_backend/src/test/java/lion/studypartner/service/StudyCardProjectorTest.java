@@ -0,0 +1,138 @@
+package lion.studypartner.service;
+
+import lion.studypartner.dto.StudyDto;
+import lion.studypartner.dto.UserDto;
+import lion.studypartner.entity.StudyCard;
+import lion.studypartner.entity.User;
+import lion.studypartner.repository.StudyCardRepository;
+import lion.studypartner.repository.StudyRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// study_cards 읽기 모델이 스터디/리더 변경을 같은 트랜잭션에서 따라가는지 확인
+@IntegrationTest
+class StudyCardProjectorTest {
+    
+    @Autowired
+    private StudyService studyService;
+    
+    @Autowired
+    private UserService userService;
+    
+    @Autowired
+    private StudyCardRepository studyCardRepository;
+    
+    @Autowired
+    private StudyRepository studyRepository;
+    
+    @Autowired
+    private TestFixtures fixtures;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Test
+    void cardFollowsCreateUpdateJoinLeaveAndDelete() {
+        User leader = fixtures.saveUser("card-leader@test.com");
+        User member = fixtures.saveUser("card-member@test.com");
+        
+        Long studyId = studyService.createStudy(createRequest("카드 생성"), leader.getId()).getId();
+        StudyCard card = card(studyId);
+        assertEquals("카드 생성", card.getTitle());
+        assertEquals(leader.getId(), card.getLeaderId());
+        assertEquals(leader.getNickname(), card.getLeaderNickname());
+        assertEquals(0, card.getCurrentParticipants().intValue());
+        
+        studyService.updateStudy(studyId, StudyDto.UpdateRequest.builder().title("카드 수정").build(), leader.getId());
+        assertEquals("카드 수정", card(studyId).getTitle());
+        
+        studyService.joinStudy(studyId, member.getId());
+        assertEquals(1, card(studyId).getCurrentParticipants().intValue());
+        
+        studyService.leaveStudy(studyId, member.getId());
+        assertEquals(0, card(studyId).getCurrentParticipants().intValue());
+        
+        studyService.deleteStudy(studyId, leader.getId());
+        assertFalse(studyCardRepository.findById(studyId).isPresent());
+    }
+    
+    @Test
+    void cardRollsBackWithFailedTransaction() {
+        User leader = fixtures.saveUser("card-rollback@test.com");
+        Long studyId = studyService.createStudy(createRequest("롤백 전"), leader.getId()).getId();
+        
+        // 서비스 호출 이후 같은 트랜잭션이 실패하면 스터디와 카드 모두 이전 값이어야 함
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            studyService.updateStudy(studyId, StudyDto.UpdateRequest.builder().title("롤백 후").build(), leader.getId());
+            throw new IllegalStateException("강제 실패");
+        }));
+        assertEquals("롤백 전", studyRepository.findById(studyId).orElseThrow().getTitle());
+        assertEquals("롤백 전", card(studyId).getTitle());
+        
+        // 생성 트랜잭션이 롤백되면 카드도 남지 않음
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            studyService.createStudy(createRequest("롤백 생성"), leader.getId());
+            throw new IllegalStateException("강제 실패");
+        }));
+        assertTrue(studyCardRepository.findAll().stream().noneMatch(card -> "롤백 생성".equals(card.getTitle())));
+    }
+    
+    @Test
+    void leaderProfileChangeUpdatesCardsAndCachedSearch() {
+        User leader = fixtures.saveUser("card-profile@test.com");
+        Long first = studyService.createStudy(createRequest("프로필 첫번째"), leader.getId()).getId();
+        Long second = studyService.createStudy(createRequest("프로필 두번째"), leader.getId()).getId();
+        
+        // 변경 전에 검색 결과를 캐시에 올려둠
+        StudyDto.SearchRequest request = StudyDto.SearchRequest.builder().category("card-test").keyword("프로필").build();
+        assertEquals(leader.getNickname(), leaderNickname(request, first));
+        
+        UserDto.UpdateRequest update = new UserDto.UpdateRequest();
+        update.setName("새이름");
+        update.setNickname("card-profile-new");
+        assertTrue(userService.updateUser(leader.getId(), update).isSuccess());
+        
+        for (Long studyId : List.of(first, second)) {
+            StudyCard card = card(studyId);
+            assertEquals("새이름", card.getLeaderName());
+            assertEquals("card-profile-new", card.getLeaderNickname());
+        }
+        assertEquals("card-profile-new", leaderNickname(request, first));
+    }
+    
+    private String leaderNickname(StudyDto.SearchRequest request, Long studyId) {
+        return studyService.searchStudies(request, PageRequest.of(0, 10)).getContent().stream()
+                .filter(study -> study.getId().equals(studyId))
+                .findFirst()
+                .orElseThrow()
+                .getLeader()
+                .getNickname();
+    }
+    
+    private StudyCard card(Long studyId) {
+        return studyCardRepository.findById(studyId).orElseThrow();
+    }
+    
+    private static StudyDto.CreateRequest createRequest(String title) {
+        return StudyDto.CreateRequest.builder()
+                .title(title)
+                .description("설명")
+                .category("card-test")
+                .location("서울")
+                .maxParticipants(10)
+                .startDate(LocalDateTime.now().plusDays(7))
+                .endDate(LocalDateTime.now().plusDays(30))
+                .studyType("offline")
+                .build();
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,123 @@
+package lion.studypartner.service;
+
+import lion.studypartner.dto.StudyDto;
+import lion.studypartner.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// 키셋 페이지네이션이 정렬 키가 같은 스터디 사이에서도 빠짐이나 중복 없이 이어지는지 확인
+@IntegrationTest
+class StudyCursorPaginationTest {
+    
+    @Autowired
+    private StudyService studyService;
+    
+    @Autowired
+    private TestFixtures fixtures;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Test
+    void latestOrderPagesThroughEqualCreatedAt() {
+        List<Long> ids = createStudies("cursor-latest", "커서 최신순", 7);
+        // 모든 카드의 생성 시각을 같게 맞춰 ID만으로 순서가 정해지게 함
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createQuery("UPDATE StudyCard c SET c.createdAt = :date WHERE c.id IN :ids")
+                .setParameter("date", LocalDateTime.of(2024, 1, 1, 9, 0))
+                .setParameter("ids", ids)
+                .executeUpdate());
+        
+        List<Long> paged = pageAll(category("cursor-latest"), "latest", 2);
+        assertEquals(descending(ids), paged);
+    }
+    
+    @Test
+    void popularOrderPagesThroughEqualParticipants() {
+        List<Long> ids = createStudies("cursor-popular", "커서 인기순", 7);
+        // 참여자 수 5명 3개, 나머지는 같은 참여자 수
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createQuery("UPDATE StudyCard c SET c.currentParticipants = 5 WHERE c.id IN :ids")
+                .setParameter("ids", ids.subList(0, 3))
+                .executeUpdate());
+        
+        List<Long> paged = pageAll(category("cursor-popular"), "popular", 3);
+        List<Long> expected = new ArrayList<>(descending(ids.subList(0, 3)));
+        expected.addAll(descending(ids.subList(3, ids.size())));
+        assertEquals(expected, paged);
+    }
+    
+    @Test
+    void keywordCursorOverLargeCandidateSetHasNoGapsOrDuplicates() {
+        // 검색 인덱스 후보가 IN 절 한도(1000)를 넘으면 인덱스 정렬 키로 커서 위치를 찾음 (참여자 수는 모두 같음)
+        List<Long> ids = createStudies("cursor-bulk", "커서대량검색", 1010);
+        StudyDto.SearchRequest request = StudyDto.SearchRequest.builder().keyword("커서대량검색").build();
+        
+        assertEquals(descending(ids), pageAll(request, "popular", 100));
+        
+        List<Long> latest = pageAll(request, "latest", 100);
+        assertEquals(ids.size(), new HashSet<>(latest).size());
+        assertEquals(new HashSet<>(ids), new HashSet<>(latest));
+    }
+    
+    // 마지막 페이지까지 커서를 따라가며 ID 수집 (중복이 있으면 실패)
+    private List<Long> pageAll(StudyDto.SearchRequest request, String orderBy, int size) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = "";
+        while (true) {
+            StudyDto.CursorPageResponse<StudyDto.StudyListResponse> page =
+                    studyService.searchStudiesByCursor(request, cursor, size, orderBy);
+            page.getContent().forEach(study -> ids.add(study.getId()));
+            if (!page.isHasNext()) {
+                assertNull(page.getNextCursor());
+                break;
+            }
+            assertFalse(page.getContent().isEmpty());
+            cursor = page.getNextCursor();
+        }
+        assertEquals(ids.size(), new HashSet<>(ids).size(), "중복된 스터디가 있습니다.");
+        return ids;
+    }
+    
+    private List<Long> createStudies(String category, String title, int count) {
+        User leader = fixtures.saveUser(category + "-leader@test.com");
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            StudyDto.CreateRequest request = StudyDto.CreateRequest.builder()
+                    .title(title + " " + i)
+                    .description("설명")
+                    .category(category)
+                    .location("서울")
+                    .maxParticipants(10)
+                    .startDate(LocalDateTime.now().plusDays(7))
+                    .endDate(LocalDateTime.now().plusDays(30))
+                    .studyType("offline")
+                    .build();
+            ids.add(studyService.createStudy(request, leader.getId()).getId());
+        }
+        return ids;
+    }
+    
+    private static StudyDto.SearchRequest category(String category) {
+        return StudyDto.SearchRequest.builder().category(category).build();
+    }
+    
+    private static List<Long> descending(List<Long> ids) {
+        return ids.stream().sorted((a, b) -> b.compareTo(a)).collect(Collectors.toList());
+    }
+} 
\ No newline at end of file
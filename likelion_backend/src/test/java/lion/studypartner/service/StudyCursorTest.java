@@ -0,0 +1,64 @@
+package lion.studypartner.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// 커서가 정렬 키와 ID를 그대로 복원하고, 변조되거나 다른 정렬의 커서는 거부하는지 확인
+class StudyCursorTest {
+    
+    @Test
+    void roundTripsSortKeyAndId() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_456_000);
+        StudyCursor latest = StudyCursor.decode(StudyCursor.latest(createdAt, 42L).encode(), StudyCursor.Order.LATEST);
+        assertEquals(createdAt, latest.getCreatedAt());
+        assertEquals(42L, latest.getId());
+        
+        StudyCursor popular = StudyCursor.decode(StudyCursor.popular(7, 9L).encode(), StudyCursor.Order.POPULAR);
+        assertEquals(7, popular.getCurrentParticipants());
+        assertEquals(9L, popular.getId());
+    }
+    
+    @Test
+    void blankCursorStartsFromFirstPage() {
+        assertNull(StudyCursor.decode("", StudyCursor.Order.LATEST));
+        assertNull(StudyCursor.decode("  ", StudyCursor.Order.POPULAR));
+        assertNull(StudyCursor.decode(null, StudyCursor.Order.LATEST));
+    }
+    
+    @Test
+    void rejectsTamperedOrMismatchedCursors() {
+        // 다른 정렬 기준의 커서
+        String popular = StudyCursor.popular(3, 1L).encode();
+        assertThrows(IllegalArgumentException.class, () -> StudyCursor.decode(popular, StudyCursor.Order.LATEST));
+        
+        // Base64가 아니거나 형식이 맞지 않는 값
+        assertThrows(IllegalArgumentException.class, () -> StudyCursor.decode("%%%", StudyCursor.Order.LATEST));
+        assertThrows(IllegalArgumentException.class, () -> StudyCursor.decode(raw("LATEST"), StudyCursor.Order.LATEST));
+        assertThrows(IllegalArgumentException.class, () -> StudyCursor.decode(raw("NEWEST|1|1"), StudyCursor.Order.LATEST));
+        assertThrows(IllegalArgumentException.class,
+                () -> StudyCursor.decode(raw("LATEST|2024-03-01T12:30|1|2"), StudyCursor.Order.LATEST));
+        
+        // 정렬 키나 ID가 숫자/시각이 아닌 값
+        assertThrows(IllegalArgumentException.class, () -> StudyCursor.decode(raw("LATEST|yesterday|1"), StudyCursor.Order.LATEST));
+        assertThrows(IllegalArgumentException.class, () -> StudyCursor.decode(raw("POPULAR|many|1"), StudyCursor.Order.POPULAR));
+        assertThrows(IllegalArgumentException.class, () -> StudyCursor.decode(raw("POPULAR|3|x"), StudyCursor.Order.POPULAR));
+    }
+    
+    @Test
+    void rejectsUnknownOrder() {
+        assertEquals(StudyCursor.Order.LATEST, StudyCursor.Order.from(null));
+        assertEquals(StudyCursor.Order.POPULAR, StudyCursor.Order.from("Popular"));
+        assertThrows(IllegalArgumentException.class, () -> StudyCursor.Order.from("oldest"));
+    }
+    
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,76 @@
+package lion.studypartner.service;
+
+import lion.studypartner.dto.StudyDetailResponse;
+import lion.studypartner.dto.StudyDto;
+import lion.studypartner.entity.Study;
+import lion.studypartner.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 상세 조회가 멤버 수와 무관하게 고정된 SQL 수로 끝나는지 확인
+@IntegrationTest
+@Transactional
+class StudyDetailQueryCountTest {
+    
+    private static final int MEMBER_COUNT = 8;
+    
+    @Autowired
+    private StudyService studyService;
+    
+    @Autowired
+    private TestFixtures fixtures;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    private Long studyId;
+    private Long memberUserId;
+    
+    @BeforeEach
+    void setUp() {
+        User leader = fixtures.saveUser("detail-leader@test.com");
+        Study study = fixtures.saveStudy(leader, 20, MEMBER_COUNT + 1);
+        studyId = study.getId();
+        
+        fixtures.saveMember(study, leader, "leader", "active");
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            User user = fixtures.saveUser("detail-member" + i + "@test.com");
+            fixtures.saveMember(study, user, "member", "active");
+            if (i == 0) {
+                memberUserId = user.getId();
+            }
+        }
+        // 탈퇴한 멤버는 상세 응답에 포함되지 않아야 함
+        fixtures.saveMember(study, fixtures.saveUser("detail-left@test.com"), "member", "inactive");
+        
+        entityManager.flush();
+        entityManager.clear();
+        fixtures.statistics().clear();
+    }
+    
+    @Test
+    void studyDetailUsesTwoStatementsRegardlessOfMemberCount() {
+        StudyDetailResponse response = studyService.getStudyDetail(studyId, memberUserId);
+        
+        assertEquals(2, fixtures.statistics().getPrepareStatementCount());
+        assertEquals(MEMBER_COUNT + 1, response.getMembers().size());
+        assertEquals("detail-leader@test.com", response.getLeader().getEmail());
+        assertTrue(response.isMember());
+    }
+    
+    @Test
+    void studyResponseUsesTwoStatementsRegardlessOfMemberCount() {
+        StudyDto.StudyResponse response = studyService.getStudy(studyId);
+        
+        assertEquals(2, fixtures.statistics().getPrepareStatementCount());
+        assertEquals(MEMBER_COUNT + 1, response.getMembers().size());
+        response.getMembers().forEach(member -> assertTrue(member.getUser().getEmail().startsWith("detail-")));
+    }
+} 
\ No newline at end of file
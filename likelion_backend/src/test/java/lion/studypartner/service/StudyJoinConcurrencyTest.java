@@ -0,0 +1,267 @@
+package lion.studypartner.service;
+
+import lion.studypartner.dto.StudyDto;
+import lion.studypartner.entity.Study;
+import lion.studypartner.entity.StudyMember;
+import lion.studypartner.repository.StudyMemberRepository;
+import lion.studypartner.repository.StudyRepository;
+import lion.studypartner.repository.StudyWaitlistRepository;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 동시 참여/탈퇴 요청에서도 정원과 참여자 수가 어긋나지 않고, 대기열이 순서대로 승격되는지 확인
+@IntegrationTest
+class StudyJoinConcurrencyTest {
+    
+    private static final int MAX_PARTICIPANTS = 10;
+    private static final int THREADS = 16;
+    
+    @Autowired
+    private StudyService studyService;
+    
+    @Autowired
+    private StudyRepository studyRepository;
+    
+    @Autowired
+    private StudyMemberRepository studyMemberRepository;
+    
+    @Autowired
+    private StudyWaitlistRepository studyWaitlistRepository;
+    
+    @Autowired
+    private TestFixtures fixtures;
+    
+    @Test
+    void concurrentJoinsNeverExceedCapacity() throws Exception {
+        Long studyId = saveStudy("capacity");
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            userIds.add(fixtures.saveUser("capacity-user" + i + "@test.com").getId());
+        }
+        
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger waitlisted = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (Long userId : userIds) {
+            tasks.add(() -> {
+                StudyDto.JoinResponse response = studyService.joinStudy(studyId, userId);
+                if (response.isWaitlisted()) {
+                    waitlisted.incrementAndGet();
+                } else {
+                    joined.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        runConcurrently(tasks);
+        
+        // 리더가 한 자리를 차지하므로 나머지 자리만큼만 참여하고 나머지는 대기열로
+        assertEquals(MAX_PARTICIPANTS - 1, joined.get());
+        assertEquals(userIds.size() - (MAX_PARTICIPANTS - 1), waitlisted.get());
+        assertEquals(waitlisted.get(), studyWaitlistRepository.countByStudyId(studyId));
+        assertCountMatchesMembers(studyId, MAX_PARTICIPANTS);
+    }
+    
+    @Test
+    void leavePromotesWaitlistHeadInOrder() {
+        Long studyId = saveStudy("promotion");
+        List<Long> memberIds = new ArrayList<>();
+        for (int i = 0; i < MAX_PARTICIPANTS - 1; i++) {
+            Long userId = fixtures.saveUser("promotion-member" + i + "@test.com").getId();
+            assertFalse(studyService.joinStudy(studyId, userId).isWaitlisted());
+            memberIds.add(userId);
+        }
+        Long first = fixtures.saveUser("promotion-wait0@test.com").getId();
+        Long second = fixtures.saveUser("promotion-wait1@test.com").getId();
+        assertEquals(1, studyService.joinStudy(studyId, first).getWaitlist().getPosition());
+        assertEquals(2, studyService.joinStudy(studyId, second).getWaitlist().getPosition());
+        
+        studyService.leaveStudy(studyId, memberIds.get(0));
+        
+        // 먼저 대기한 사용자가 같은 트랜잭션에서 참여되고 다음 사용자가 맨 앞으로
+        assertTrue(studyService.isUserJoined(studyId, first));
+        assertFalse(studyService.isUserJoined(studyId, second));
+        assertEquals(1, studyService.getWaitlistPosition(studyId, second).getPosition());
+        assertCountMatchesMembers(studyId, MAX_PARTICIPANTS);
+        
+        // 대기를 취소하면 빈자리가 나도 승격되지 않음
+        studyService.cancelWaitlist(studyId, second);
+        studyService.leaveStudy(studyId, memberIds.get(1));
+        assertFalse(studyService.isUserJoined(studyId, second));
+        assertCountMatchesMembers(studyId, MAX_PARTICIPANTS - 1);
+    }
+    
+    @Test
+    void concurrentLeavesPromoteEachWaitingUserOnce() throws Exception {
+        Long studyId = saveStudy("handoff");
+        List<Long> memberIds = new ArrayList<>();
+        for (int i = 0; i < MAX_PARTICIPANTS - 1; i++) {
+            Long userId = fixtures.saveUser("handoff-member" + i + "@test.com").getId();
+            studyService.joinStudy(studyId, userId);
+            memberIds.add(userId);
+        }
+        List<Long> waitingIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Long userId = fixtures.saveUser("handoff-wait" + i + "@test.com").getId();
+            studyService.joinStudy(studyId, userId);
+            waitingIds.add(userId);
+        }
+        
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (Long userId : memberIds.subList(0, waitingIds.size())) {
+            tasks.add(() -> {
+                studyService.leaveStudy(studyId, userId);
+                return null;
+            });
+        }
+        runConcurrently(tasks);
+        
+        // 빈자리마다 대기자 한 명씩 승격되어 정원이 그대로 유지됨
+        for (Long userId : waitingIds) {
+            assertTrue(studyService.isUserJoined(studyId, userId));
+        }
+        assertEquals(0, studyWaitlistRepository.countByStudyId(studyId));
+        assertCountMatchesMembers(studyId, MAX_PARTICIPANTS);
+    }
+    
+    @Test
+    void duplicateJoinsBySameUserSucceedOnce() throws Exception {
+        Long studyId = saveStudy("duplicate");
+        Long userId = fixtures.saveUser("duplicate-user@test.com").getId();
+        
+        AtomicInteger joined = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(() -> {
+                try {
+                    studyService.joinStudy(studyId, userId);
+                    joined.incrementAndGet();
+                } catch (RuntimeException e) {
+                    // 이미 참여 중인 경우는 예상된 결과
+                }
+                return null;
+            });
+        }
+        runConcurrently(tasks);
+        
+        assertEquals(1, joined.get());
+        assertCountMatchesMembers(studyId, 2);
+    }
+    
+    @Test
+    void concurrentJoinAndLeaveKeepCountInSync() throws Exception {
+        Long studyId = saveStudy("churn");
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            userIds.add(fixtures.saveUser("churn-user" + i + "@test.com").getId());
+        }
+        
+        // 사용자마다 참여와 탈퇴를 반복 (탈퇴한 멤버십은 재참여 시 재활성화됨)
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (Long userId : userIds) {
+            tasks.add(() -> {
+                for (int round = 0; round < 5; round++) {
+                    try {
+                        studyService.joinStudy(studyId, userId);
+                    } catch (RuntimeException e) {
+                        // 이미 참여 중이면 실패할 수 있음
+                    }
+                    try {
+                        studyService.leaveStudy(studyId, userId);
+                    } catch (RuntimeException e) {
+                        // 참여하지 못한 경우 탈퇴도 실패함
+                    }
+                }
+                return null;
+            });
+            // 같은 사용자에 대한 중복 요청도 섞음
+            tasks.add(() -> {
+                try {
+                    studyService.joinStudy(studyId, userId);
+                } catch (RuntimeException e) {
+                    // 이미 참여 중인 경우는 예상된 결과
+                }
+                return null;
+            });
+        }
+        runConcurrently(tasks);
+        
+        Study study = studyRepository.findById(studyId).orElseThrow();
+        assertTrue(study.getCurrentParticipants() <= MAX_PARTICIPANTS);
+        assertCountMatchesMembers(studyId, study.getCurrentParticipants());
+    }
+    
+    @Test
+    void joinAndLeaveKeepSecondLevelCacheEntries() {
+        Long studyId = saveStudy("cache");
+        Long otherStudyId = saveStudy("cache-other");
+        Long userId = fixtures.saveUser("cache-user@test.com").getId();
+        studyService.joinStudy(studyId, userId);
+        Long memberId = studyMemberRepository.findByStudyIdAndUserId(studyId, userId).orElseThrow().getId();
+        studyRepository.findById(otherStudyId);
+        
+        // 참여/탈퇴는 해당 행만 갱신하므로 다른 스터디와 갱신된 행 모두 캐시에서 읽힘 (벌크 UPDATE면 영역 전체가 비워짐)
+        studyService.leaveStudy(studyId, userId);
+        studyService.joinStudy(studyId, userId);
+        
+        Statistics statistics = fixtures.statistics();
+        statistics.clear();
+        assertEquals(2, studyRepository.findById(studyId).orElseThrow().getCurrentParticipants());
+        studyRepository.findById(otherStudyId).orElseThrow();
+        assertEquals("active", studyMemberRepository.findById(memberId).orElseThrow().getStatus());
+        
+        CacheRegionStatistics studyRegion = statistics.getDomainDataRegionStatistics(Study.class.getName());
+        CacheRegionStatistics memberRegion = statistics.getDomainDataRegionStatistics(StudyMember.class.getName());
+        assertEquals(2, studyRegion.getHitCount());
+        assertEquals(0, studyRegion.getMissCount());
+        assertEquals(1, memberRegion.getHitCount());
+        assertEquals(0, memberRegion.getMissCount());
+    }
+    
+    private void assertCountMatchesMembers(Long studyId, int expected) {
+        Study study = studyRepository.findById(studyId).orElseThrow();
+        assertEquals(expected, study.getCurrentParticipants());
+        assertEquals(expected, studyMemberRepository.countActiveMembersByStudyId(studyId).intValue());
+    }
+    
+    // 모든 작업을 동시에 출발시키고 끝날 때까지 대기
+    private void runConcurrently(List<Callable<Void>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (Callable<Void> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private Long saveStudy(String prefix) {
+        return fixtures.saveStudyLedBy(fixtures.saveUser(prefix + "-leader@test.com"), MAX_PARTICIPANTS).getId();
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,79 @@
+package lion.studypartner.service;
+
+import lion.studypartner.entity.Study;
+import lion.studypartner.entity.StudyMember;
+import lion.studypartner.entity.User;
+import lion.studypartner.repository.StudyMemberRepository;
+import lion.studypartner.repository.StudyRepository;
+import lion.studypartner.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestComponent;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+
+// 서비스 테스트용 사용자/스터디/멤버 저장 헬퍼
+@TestComponent
+class TestFixtures {
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private StudyRepository studyRepository;
+    
+    @Autowired
+    private StudyMemberRepository studyMemberRepository;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    User saveUser(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setName("테스트");
+        user.setNickname(email.substring(0, email.indexOf('@')));
+        user.setStatus("active");
+        return userRepository.save(user);
+    }
+    
+    Study saveStudy(User leader, int maxParticipants, int currentParticipants) {
+        Study study = new Study();
+        study.setTitle("테스트 스터디");
+        study.setDescription("설명");
+        study.setCategory("programming");
+        study.setLocation("서울");
+        study.setMaxParticipants(maxParticipants);
+        study.setCurrentParticipants(currentParticipants);
+        study.setStatus("active");
+        study.setStartDate(LocalDateTime.now().plusDays(7));
+        study.setEndDate(LocalDateTime.now().plusDays(30));
+        study.setStudyType("offline");
+        study.setLeader(leader);
+        return studyRepository.save(study);
+    }
+    
+    // 리더가 멤버로 참여한 상태의 스터디 (참여자 1명)
+    Study saveStudyLedBy(User leader, int maxParticipants) {
+        Study study = saveStudy(leader, maxParticipants, 1);
+        saveMember(study, leader, "leader", "active");
+        return study;
+    }
+    
+    StudyMember saveMember(Study study, User user, String role, String status) {
+        StudyMember member = new StudyMember();
+        member.setStudy(study);
+        member.setUser(user);
+        member.setRole(role);
+        member.setStatus(status);
+        return studyMemberRepository.save(member);
+    }
+    
+    // generate_statistics=true 로 수집되는 Hibernate 통계 (SQL 수, 2차 캐시 적중)
+    Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+} 
\ No newline at end of file
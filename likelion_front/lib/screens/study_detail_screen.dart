@@ -27,6 +27,7 @@ class _StudyDetailScreenState extends State<StudyDetailScreen> {
   bool _isJoining = false;
   bool _isLeaving = false;
   bool _isJoined = false;
+  int? _waitlistPosition;
   final ApiService _apiService = ApiService();
 
   @override
@@ -180,7 +181,27 @@ class _StudyDetailScreenState extends State<StudyDetailScreen> {
     try {
       final response = await _apiService.joinStudy(widget.studyId);
       
-      if (response['success'] == true) {
+      if (response['success'] == true && response['waitlisted'] == true) {
+        // 정원이 차서 대기열에 등록됨 (참여한 것이 아니므로 참여 상태는 그대로 둠)
+        final position = response['data']?['waitlist']?['position'] as int?;
+        if (mounted) {
+          ScaffoldMessenger.of(context).showSnackBar(
+            SnackBar(
+              content: Text(position != null
+                  ? '정원이 가득 차 대기열 $position번째로 등록했습니다. 자리가 나면 알림으로 알려드립니다.'
+                  : '정원이 가득 차 대기열에 등록했습니다. 자리가 나면 알림으로 알려드립니다.'),
+              backgroundColor: Colors.orange,
+            ),
+          );
+          
+          setState(() {
+            _waitlistPosition = position;
+          });
+          
+          // 참여자 수가 바뀌었으므로 상세 정보 다시 불러오기
+          await _loadStudyDetail();
+        }
+      } else if (response['success'] == true) {
         if (mounted) {
           ScaffoldMessenger.of(context).showSnackBar(
             const SnackBar(
@@ -854,7 +875,9 @@ class _StudyDetailScreenState extends State<StudyDetailScreen> {
                   foregroundColor: Colors.white,
                   minimumSize: const Size(double.infinity, 50),
                 ),
-                child: Text(_study!.isFull() ? '모집 완료' : '참여 불가'),
+                child: Text(_waitlistPosition != null
+                    ? '대기 중 ($_waitlistPosition번째)'
+                    : _study!.isFull() ? '모집 완료' : '참여 불가'),
               ),
             ),
           ],
@@ -174,10 +174,14 @@ class ApiService {
   }
   
   // 스터디 참여
+  // 정원이 찼으면 참여가 아니라 대기열 등록 (202 Accepted, data.waitlisted = true, data.waitlist에 순번)
   Future<Map<String, dynamic>> joinStudy(int studyId) async {
     try {
       final response = await _dio.post('/studies/$studyId/join');
-      return response.data;
+      final Map<String, dynamic> body = response.data;
+      final data = body['data'];
+      body['waitlisted'] = response.statusCode == 202 || (data is Map && data['waitlisted'] == true);
+      return body;
     } catch (e) {
       rethrow;
     }